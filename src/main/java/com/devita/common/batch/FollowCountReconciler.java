@@ -0,0 +1,109 @@
+package com.devita.common.batch;
+
+import com.devita.common.util.SingleRunExecutor;
+import com.devita.domain.follow.dto.FollowCountByUserDTO;
+import com.devita.domain.follow.repository.FollowRepository;
+import com.devita.domain.user.dto.UserFollowCountDTO;
+import com.devita.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// 사용자의 팔로잉/팔로워 수를 follow 테이블 집계와 맞춤
+// 사용자를 id 순으로 batch-size 명씩 읽고, 배치마다 GROUP BY 쿼리 두 번으로 실제 수를 구해서 다른 행만 수정
+// 읽은 뒤 팔로우/언팔로우로 값이 바뀐 행은 건드리지 않음 (조건부 UPDATE)
+@Component
+@Slf4j
+public class FollowCountReconciler {
+
+    private final UserRepository userRepository;
+    private final FollowRepository followRepository;
+    private final int batchSize;
+    private final Counter repairedUsers;
+    private final SingleRunExecutor executor = new SingleRunExecutor("follow-count-reconciler", "팔로우 수 정합성 검사");
+
+    public FollowCountReconciler(UserRepository userRepository,
+                                 FollowRepository followRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${follow.reconcile.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.followRepository = followRepository;
+        this.batchSize = batchSize;
+        this.repairedUsers = Counter.builder("follow.count.repaired")
+                .description("follow 테이블과 달라서 수정한 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${follow.reconcile.interval-ms:21600000}", initialDelayString = "${follow.reconcile.initial-delay-ms:300000}")
+    public void schedule() {
+        executor.execute(this::run);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 수정한 사용자 수 반환
+    public long run() {
+        long startedAt = System.currentTimeMillis();
+        long scanned = 0;
+        long repaired = 0;
+
+        Long lastId = 0L;
+        List<UserFollowCountDTO> users;
+        while (!(users = userRepository.findFollowCountsAfter(lastId, PageRequest.of(0, batchSize))).isEmpty()
+                && !Thread.currentThread().isInterrupted()) {
+            repaired += reconcile(users);
+            scanned += users.size();
+            lastId = users.get(users.size() - 1).userId();
+        }
+
+        repairedUsers.increment(repaired);
+        log.info("팔로우 수 정합성 검사 완료: scanned={}, repaired={}, elapsed={}ms", scanned, repaired, System.currentTimeMillis() - startedAt);
+
+        return repaired;
+    }
+
+    private long reconcile(List<UserFollowCountDTO> users) {
+        List<Long> userIds = users.stream().map(UserFollowCountDTO::userId).toList();
+        Map<Long, Long> followings = toMap(followRepository.countFollowingsByUserIds(userIds));
+        Map<Long, Long> followers = toMap(followRepository.countFollowersByUserIds(userIds));
+
+        long repaired = 0;
+        for (UserFollowCountDTO user : users) {
+            long followingCount = followings.getOrDefault(user.userId(), 0L);
+            long followerCount = followers.getOrDefault(user.userId(), 0L);
+            boolean drifted = false;
+
+            if (!Objects.equals(user.followingCount(), followingCount)) {
+                drifted |= userRepository.repairFollowingCount(user.userId(), user.followingCount(), followingCount) > 0;
+            }
+            if (!Objects.equals(user.followerCount(), followerCount)) {
+                drifted |= userRepository.repairFollowerCount(user.userId(), user.followerCount(), followerCount) > 0;
+            }
+
+            if (drifted) {
+                repaired++;
+                log.debug("팔로우 수 수정: userId={}, following {} -> {}, follower {} -> {}",
+                        user.userId(), user.followingCount(), followingCount, user.followerCount(), followerCount);
+            }
+        }
+
+        return repaired;
+    }
+
+    private Map<Long, Long> toMap(List<FollowCountByUserDTO> counts) {
+        return counts.stream().collect(Collectors.toMap(FollowCountByUserDTO::userId, FollowCountByUserDTO::count));
+    }
+}
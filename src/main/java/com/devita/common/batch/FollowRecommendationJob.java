@@ -0,0 +1,80 @@
+package com.devita.common.batch;
+
+import com.devita.common.util.SingleRunExecutor;
+import com.devita.domain.follow.graph.FollowGraph;
+import com.devita.domain.follow.repository.FollowJdbcRepository;
+import com.devita.domain.follow.repository.FollowRedisRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 알 수도 있는 사람 계산 - follow 테이블을 CSR 그래프로 읽어서 사용자마다 친구의 친구를 함께 아는 사람 수 순으로 추천
+// 결과는 사용자마다 Redis 키 하나로 저장해서 조회 API 는 GET 한 번으로 끝남
+@Component
+@Slf4j
+public class FollowRecommendationJob {
+
+    private final FollowJdbcRepository followJdbcRepository;
+    private final FollowRedisRepository followRedisRepository;
+    private final int batchSize;
+    private final int limit;
+    private final int maxFanout;
+    private final int parallelism;
+    private final SingleRunExecutor executor = new SingleRunExecutor("follow-recommendation", "추천 계산");
+
+    public FollowRecommendationJob(FollowJdbcRepository followJdbcRepository,
+                                   FollowRedisRepository followRedisRepository,
+                                   @Value("${follow.recommend.batch-size:10000}") int batchSize,
+                                   @Value("${follow.recommend.limit:20}") int limit,
+                                   @Value("${follow.recommend.max-fanout:1000}") int maxFanout,
+                                   @Value("${follow.recommend.parallelism:0}") int parallelism) {
+        this.followJdbcRepository = followJdbcRepository;
+        this.followRedisRepository = followRedisRepository;
+        this.batchSize = batchSize;
+        this.limit = limit;
+        this.maxFanout = maxFanout;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Scheduled(fixedDelayString = "${follow.recommend.interval-ms:21600000}", initialDelayString = "${follow.recommend.initial-delay-ms:600000}")
+    public void schedule() {
+        executor.execute(this::run);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 추천을 저장한 사용자 수 반환
+    public long run() {
+        long startedAt = System.currentTimeMillis();
+
+        FollowGraph.Builder builder = FollowGraph.builder();
+        followJdbcRepository.forEachEdge(batchSize, builder::addEdge);
+        FollowGraph graph = builder.build();
+        long loadedAt = System.currentTimeMillis();
+
+        AtomicLong saved = new AtomicLong();
+        // 계산용 풀은 실행마다 만들고 닫아서 스레드별 계산 배열이 다음 실행까지 남지 않도록 함
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            graph.recommend(pool, limit, maxFanout, recommendations -> {
+                followRedisRepository.saveRecommendations(recommendations);
+                saved.addAndGet(recommendations.size());
+            });
+        } finally {
+            pool.shutdown();
+        }
+
+        log.info("추천 계산 완료: users={}, edges={}, saved={}, load={}ms, compute={}ms",
+                graph.getUserCount(), graph.getEdgeCount(), saved.get(), loadedAt - startedAt, System.currentTimeMillis() - loadedAt);
+
+        return saved.get();
+    }
+}
@@ -0,0 +1,43 @@
+package com.devita.common.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 좋아요 동기화 지표 (동기화 지연, 처리량)
+@Component
+public class LikeSyncMetrics {
+
+    private final Counter syncedItems;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong itemsPerSecond = new AtomicLong();
+
+    public LikeSyncMetrics(MeterRegistry meterRegistry) {
+        this.syncedItems = Counter.builder("like.sync.items")
+                .description("DB에 반영된 좋아요 수 갱신 건수")
+                .register(meterRegistry);
+        Gauge.builder("like.sync.lag", lagMillis, value -> value.get() / 1000.0)
+                .description("가장 오래된 미동기화 좋아요 변경으로부터 지난 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("like.sync.throughput", itemsPerSecond, AtomicLong::get)
+                .description("마지막 동기화 실행의 초당 처리 건수")
+                .register(meterRegistry);
+    }
+
+    public void recordSynced(int count) {
+        syncedItems.increment(count);
+    }
+
+    public void recordRun(long items, long elapsedMillis) {
+        itemsPerSecond.set(elapsedMillis == 0 ? items : items * 1000 / elapsedMillis);
+    }
+
+    // oldestTimestamp 가 null 이면 밀린 변경 없음
+    public void recordLag(Long oldestTimestamp) {
+        lagMillis.set(oldestTimestamp == null ? 0L : Math.max(0L, System.currentTimeMillis() - oldestTimestamp));
+    }
+}
@@ -1,33 +1,134 @@
 package com.devita.common.batch;
 
-import lombok.RequiredArgsConstructor;
+import com.devita.domain.post.repository.PostJdbcRepository;
+import com.devita.domain.post.repository.PostLikeRedisRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.Job;
-import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 변경된 게시물(post:like_dirty:{partition})의 좋아요 수만 짧은 주기로 DB에 동기화
+// 게시물 id 해시 파티션마다 스레드 하나가 오래된 순으로 꺼내서 UPDATE 배치로 반영
+// 꺼낸 id는 반영이 끝날 때까지 post:like_syncing:{partition} 에 남겨서 실패하거나 종료되어도 유실되지 않음
+// 몇 초마다 도는 작업이라 Spring Batch 작업 저장소를 거치지 않음 (실행마다 남는 메타데이터가 계속 쌓이기 때문)
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class LikeSyncScheduler {
 
-    private final JobLauncher jobLauncher;
-    private final Job syncLikesJob;
+    private static final int CHUNK_SIZE = 100;
+
+    private final PostLikeRedisRepository postLikeRedisRepository;
+    private final PostJdbcRepository postJdbcRepository;
+    private final LikeSyncMetrics likeSyncMetrics;
+    // 한 번의 실행에서 파티션당 처리할 최대 건수 (밀린 변경은 다음 실행에서 이어서 처리)
+    private final int maxItemsPerPartition;
+    // 파티션 수만큼만 스레드를 두는 고정 크기 풀
+    private final ExecutorService executor;
+
+    public LikeSyncScheduler(PostLikeRedisRepository postLikeRedisRepository,
+                             PostJdbcRepository postJdbcRepository,
+                             LikeSyncMetrics likeSyncMetrics,
+                             @Value("${like.sync.max-items-per-partition:10000}") int maxItemsPerPartition) {
+        this.postLikeRedisRepository = postLikeRedisRepository;
+        this.postJdbcRepository = postJdbcRepository;
+        this.likeSyncMetrics = likeSyncMetrics;
+        this.maxItemsPerPartition = maxItemsPerPartition;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(postLikeRedisRepository.getPartitions(), runnable -> {
+            Thread thread = new Thread(runnable, "like-sync-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
-    @Scheduled(cron = "0 0 0 * * ?")
-    public void runLikeSyncJob() {
-        log.info("Running like sync job...");
+    // 이전 실행이 끝난 뒤부터 간격 계산
+    @Scheduled(fixedDelayString = "${like.sync.interval-ms:5000}")
+    public void runLikeSync() {
+        log.debug("Running like sync...");
+        long startedAt = System.currentTimeMillis();
         try {
-            JobParameters jobParameters = new JobParametersBuilder()
-                    .addLong("timestamp", System.currentTimeMillis())
-                    .toJobParameters();
+            List<Future<Long>> results = new ArrayList<>();
+            for (int partition = 0; partition < postLikeRedisRepository.getPartitions(); partition++) {
+                int target = partition;
+                results.add(executor.submit(() -> syncPartition(target)));
+            }
 
-            jobLauncher.run(syncLikesJob, jobParameters);
-        } catch (Exception e) {
-            e.printStackTrace();
+            long items = 0;
+            for (Future<Long> result : results) {
+                try {
+                    items += result.get();
+                } catch (ExecutionException e) {
+                    log.error("좋아요 동기화 중 오류 발생", e.getCause());
+                }
+            }
+            likeSyncMetrics.recordRun(items, System.currentTimeMillis() - startedAt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            likeSyncMetrics.recordLag(postLikeRedisRepository.getOldestDirtyTimestamp());
         }
     }
+
+    // 이전 실행이 반영 도중 종료되어 동기화 중으로 남은 게시물을 다시 동기화 대상으로 되돌림
+    // 이미 반영된 게시물이 다시 반영되어도 Redis 의 좋아요 수를 그대로 쓰므로 결과가 같음
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreSyncing() {
+        long restored = postLikeRedisRepository.restoreAllSyncing();
+        if (restored > 0) {
+            log.info("동기화 중 종료된 좋아요 변경 복구: {}건", restored);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 파티션 하나를 동기화하고 처리한 게시물 수 반환
+    long syncPartition(int partition) {
+        long items = 0;
+        int readCount = 0;
+
+        while (readCount < maxItemsPerPartition) {
+            // DB에 반영한 뒤에 지우도록 동기화 중으로 옮겨서 꺼냄
+            List<Long> postIds = postLikeRedisRepository.claimDirtyPostIds(partition, CHUNK_SIZE);
+            if (postIds.isEmpty()) {
+                break;
+            }
+            readCount += postIds.size();
+
+            try {
+                // 좋아요 수 키가 이미 사라진 게시물은 건너뜀
+                Map<Long, Long> likes = postLikeRedisRepository.getCounts(postIds);
+                if (!likes.isEmpty()) {
+                    // 엔티티 로딩 없이 UPDATE 배치 한 번으로 반영
+                    int updated = postJdbcRepository.updateLikes(likes);
+                    likeSyncMetrics.recordSynced(updated);
+                    items += likes.size();
+                    log.debug("Synced likes: {} posts, skipped (deleted): {}", updated, likes.size() - updated);
+                }
+            } catch (RuntimeException e) {
+                // 실패한 게시물은 처음 변경된 시각 그대로 되돌려서 다음 동기화에서 다시 처리
+                postLikeRedisRepository.restoreSyncing(partition, postIds);
+                throw e;
+            }
+
+            postLikeRedisRepository.completeSyncing(partition, postIds);
+        }
+
+        return items;
+    }
 }
@@ -0,0 +1,277 @@
+package com.devita.common.batch;
+
+import com.devita.common.util.SingleRunExecutor;
+import com.devita.domain.post.repository.PostLikeRedisRepository;
+import com.devita.domain.post.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 게시물 좋아요 Redis 키 정리
+// - 삭제된 게시물의 키(post:like:{id}, post:like_count:{id}, 샤드 키 post:like:{id:shard} 등)와 샤드 배치는 삭제
+// - 오랫동안 사용되지 않은 게시물의 좋아요 수 키는 만료 시간을 걸어둠 (이후 좋아요 시 DB 값으로 다시 채워짐)
+//   사용자별 좋아요 set 은 중복 좋아요를 막는 유일한 기록이라 만료시키지 않음, 샤드 모드 게시물은 기준 키가 합계에 포함되므로 제외
+// SCAN 으로 조금씩 읽고 초당 처리 키 수를 제한해서 Redis 와 DB 에 부하를 주지 않음
+@Component
+@Slf4j
+public class PostRedisJanitor {
+
+    private static final String LIKE_KEY_PATTERN = PostLikeRedisRepository.LIKE_KEY_PREFIX + "*";
+    private static final String LIKE_COUNT_KEY_PATTERN = PostLikeRedisRepository.LIKE_COUNT_KEY_PREFIX + "*";
+    private static final byte[] MEMORY_USAGE = "USAGE".getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostRepository postRepository;
+    private final PostLikeRedisRepository postLikeRedisRepository;
+    private final int batchSize;
+    private final int keysPerSecond;
+    private final Duration coldIdleTime;
+    private final Duration coldTtl;
+    private final Counter deletedKeys;
+    private final Counter expiringKeys;
+    private final Counter reclaimedBytes;
+    private final SingleRunExecutor executor = new SingleRunExecutor("post-redis-janitor", "Redis 키 정리");
+
+    public PostRedisJanitor(StringRedisTemplate redisTemplate,
+                            PostRepository postRepository,
+                            PostLikeRedisRepository postLikeRedisRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${post.janitor.batch-size:500}") int batchSize,
+                            @Value("${post.janitor.keys-per-second:2000}") int keysPerSecond,
+                            @Value("${post.janitor.cold-idle-hours:72}") long coldIdleHours,
+                            @Value("${post.janitor.cold-ttl-hours:24}") long coldTtlHours) {
+        this.redisTemplate = redisTemplate;
+        this.postRepository = postRepository;
+        this.postLikeRedisRepository = postLikeRedisRepository;
+        this.batchSize = batchSize;
+        this.keysPerSecond = keysPerSecond;
+        this.coldIdleTime = Duration.ofHours(coldIdleHours);
+        this.coldTtl = Duration.ofHours(coldTtlHours);
+        this.deletedKeys = Counter.builder("post.janitor.keys").tag("result", "deleted")
+                .description("삭제된 게시물의 Redis 키 삭제 건수")
+                .register(meterRegistry);
+        this.expiringKeys = Counter.builder("post.janitor.keys").tag("result", "expiring")
+                .description("만료 시간을 설정한 좋아요 수 키 건수")
+                .register(meterRegistry);
+        this.reclaimedBytes = Counter.builder("post.janitor.reclaimed")
+                .description("삭제한 키가 사용하던 메모리")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${post.janitor.interval-ms:3600000}", initialDelayString = "${post.janitor.initial-delay-ms:600000}")
+    public void schedule() {
+        executor.execute(this::run);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public Report run() {
+        long startedAt = System.currentTimeMillis();
+        Report report = new Report();
+
+        scan(LIKE_KEY_PATTERN, report);
+        scan(LIKE_COUNT_KEY_PATTERN, report);
+
+        deletedKeys.increment(report.deletedKeys);
+        expiringKeys.increment(report.expiringKeys);
+        reclaimedBytes.increment(report.reclaimedBytes);
+        log.info("Redis 키 정리 완료: scanned={}, deleted={}, reclaimedBytes={}, expiring={}, elapsed={}ms",
+                report.scannedKeys, report.deletedKeys, report.reclaimedBytes, report.expiringKeys, System.currentTimeMillis() - startedAt);
+
+        return report;
+    }
+
+    private void scan(String pattern, Report report) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> keys = new ArrayList<>(batchSize);
+            while (cursor.hasNext() && !Thread.currentThread().isInterrupted()) {
+                keys.add(cursor.next());
+                if (keys.size() == batchSize) {
+                    process(keys, report);
+                    keys.clear();
+                }
+            }
+
+            if (!keys.isEmpty()) {
+                process(keys, report);
+            }
+        }
+    }
+
+    private void process(List<String> keys, Report report) {
+        long startedAt = System.currentTimeMillis();
+
+        Map<String, Long> postIdsByKey = new LinkedHashMap<>();
+        keys.forEach(key -> {
+            Long postId = parsePostId(key);
+            if (postId != null) {
+                postIdsByKey.put(key, postId);
+            }
+        });
+
+        if (postIdsByKey.isEmpty()) {
+            return;
+        }
+
+        // 존재 여부는 배치당 IN 쿼리 한 번으로 확인
+        Set<Long> existingPostIds = new HashSet<>(postRepository.findExistingIds(new HashSet<>(postIdsByKey.values())));
+
+        List<String> orphanKeys = new ArrayList<>();
+        Map<String, Long> countKeys = new LinkedHashMap<>();
+        postIdsByKey.forEach((key, postId) -> {
+            if (!existingPostIds.contains(postId)) {
+                orphanKeys.add(key);
+            } else if (key.equals(PostLikeRedisRepository.LIKE_COUNT_KEY_PREFIX + postId)) {
+                countKeys.put(key, postId);
+            }
+        });
+
+        if (!orphanKeys.isEmpty()) {
+            postLikeRedisRepository.removeShardLayouts(orphanKeys.stream().map(postIdsByKey::get).collect(Collectors.toSet()));
+            report.reclaimedBytes += memoryUsage(orphanKeys);
+            Long deleted = redisTemplate.unlink(orphanKeys);
+            report.deletedKeys += deleted == null ? 0 : deleted;
+        }
+
+        if (!countKeys.isEmpty()) {
+            try {
+                report.expiringKeys += expireColdKeys(countKeys);
+            } catch (DataAccessException e) {
+                // maxmemory-policy 가 LFU 이면 OBJECT IDLETIME 을 지원하지 않으므로 삭제만 진행
+                log.debug("좋아요 수 키 만료 설정 건너뜀: {}", e.getMessage());
+            }
+        }
+
+        report.scannedKeys += keys.size();
+        throttle(keys.size(), startedAt);
+    }
+
+    // post:like:{id}, post:like_count:{id} 와 샤드 키 post:like:{id:shard}, post:like_count:{id:shard} 에서 게시물 id 추출, 형식이 다르면 null
+    private Long parsePostId(String key) {
+        String prefix = key.startsWith(PostLikeRedisRepository.LIKE_COUNT_KEY_PREFIX)
+                ? PostLikeRedisRepository.LIKE_COUNT_KEY_PREFIX
+                : PostLikeRedisRepository.LIKE_KEY_PREFIX;
+        String id = key.substring(prefix.length());
+        if (id.startsWith("{") && id.endsWith("}") && id.indexOf(':') > 0) {
+            id = id.substring(1, id.indexOf(':'));
+        }
+
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private long memoryUsage(List<String> keys) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.execute("MEMORY", MEMORY_USAGE, key.getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+
+        return results.stream()
+                .filter(Number.class::isInstance)
+                .mapToLong(result -> ((Number) result).longValue())
+                .sum();
+    }
+
+    // 만료 시간이 없고 오래 사용되지 않은 좋아요 수 키에 만료 시간 설정
+    // 동기화 대기 중인 게시물과 샤드 모드 게시물은 제외
+    private long expireColdKeys(Map<String, Long> countKeys) {
+        List<String> keys = new ArrayList<>(countKeys.keySet());
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> {
+                byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                connection.keyCommands().idletime(rawKey);
+                connection.keyCommands().ttl(rawKey);
+            });
+            return null;
+        });
+
+        List<Long> coldPostIds = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Long idleSeconds = toSeconds(results.get(i * 2));
+            Object ttl = results.get(i * 2 + 1);
+            if (idleSeconds != null && idleSeconds >= coldIdleTime.toSeconds() && ttl instanceof Number number && number.longValue() == -1) {
+                coldPostIds.add(countKeys.get(keys.get(i)));
+            }
+        }
+        if (coldPostIds.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> skippedPostIds = new HashSet<>(postLikeRedisRepository.findDirtyPostIds(coldPostIds));
+        skippedPostIds.addAll(postLikeRedisRepository.getShardLayouts(coldPostIds).keySet());
+        List<Long> expiringPostIds = coldPostIds.stream()
+                .filter(postId -> !skippedPostIds.contains(postId))
+                .toList();
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            expiringPostIds.forEach(postId -> connection.keyCommands().expire(
+                    (PostLikeRedisRepository.LIKE_COUNT_KEY_PREFIX + postId).getBytes(StandardCharsets.UTF_8), coldTtl.toSeconds()));
+            return null;
+        });
+
+        return expiringPostIds.size();
+    }
+
+    private Long toSeconds(Object idleTime) {
+        if (idleTime instanceof Duration duration) {
+            return duration.toSeconds();
+        }
+        if (idleTime instanceof Number number) {
+            return number.longValue();
+        }
+        return null;
+    }
+
+    // 배치마다 keysPerSecond 에 맞춰 쉬어감
+    private void throttle(int processedKeys, long startedAt) {
+        long minimumMillis = processedKeys * 1000L / keysPerSecond;
+        long remaining = minimumMillis - (System.currentTimeMillis() - startedAt);
+        if (remaining <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(remaining);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 한 번의 실행 결과
+    @Getter
+    public static class Report {
+        private long scannedKeys;
+        private long deletedKeys;
+        private long reclaimedBytes;
+        private long expiringKeys;
+    }
+}
@@ -2,6 +2,10 @@ package com.devita.common.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
@@ -10,4 +14,38 @@ public class AppConfig {
     public RestTemplate restTemplate() {
         return new RestTemplate();
     }
+
+    // 홈 피드 fan-out 전용 풀 (게시물 작성 응답이 팔로워 수에 영향받지 않도록 분리)
+    @Bean
+    public TaskExecutor feedFanOutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("feed-fan-out-");
+        executor.initialize();
+        return executor;
+    }
+
+    // @Scheduled 작업 공용 스케줄러 (기본값은 스레드 하나라 한 작업이 늦어지면 다른 작업도 밀림)
+    @Bean
+    public TaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    // 실시간 카운트 스트림 전송 전용 풀 (느린 클라이언트가 스케줄러 스레드를 붙잡지 않도록 분리)
+    @Bean
+    public TaskExecutor postStreamSendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("post-stream-send-");
+        executor.initialize();
+        return executor;
+    }
 }
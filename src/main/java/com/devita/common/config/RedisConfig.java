@@ -4,11 +4,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericToStringSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.List;
+
 
 @Configuration
 @RequiredArgsConstructor
@@ -23,4 +28,87 @@ public class RedisConfig {
         template.setValueSerializer(new GenericToStringSerializer<>(Integer.class));
         return template;
     }
+
+    // 게시물 좋아요/조회수 스트림 채널 구독 (구독은 PostCountStreamService 가 게시물별로 추가/해제)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    // 게시물 좋아요/취소 스크립트 (좋아요 수와 변경 여부를 함께 반환)
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> likeToggleScript() {
+        return RedisScript.of(new ClassPathResource("scripts/like_toggle.lua"), List.class);
+    }
+
+    // 샤드 모드 게시물 좋아요/취소 스크립트
+    @Bean
+    public RedisScript<Long> likeToggleShardedScript() {
+        return RedisScript.of(new ClassPathResource("scripts/like_toggle_sharded.lua"), Long.class);
+    }
+
+    // 샤드 수가 바뀐 게시물에서 이전 배치의 사용자를 꺼내는 스크립트
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> likeShardEvictScript() {
+        return RedisScript.of(new ClassPathResource("scripts/like_shard_evict.lua"), List.class);
+    }
+
+    // 게시물 좋아요 샤드 수 확장 스크립트
+    @Bean
+    public RedisScript<String> likeShardGrowScript() {
+        return RedisScript.of(new ClassPathResource("scripts/like_shard_grow.lua"), String.class);
+    }
+
+    // 게시물 좋아요 샤드 배치 확정 스크립트
+    @Bean
+    public RedisScript<Long> likeShardSettleScript() {
+        return RedisScript.of(new ClassPathResource("scripts/like_shard_settle.lua"), Long.class);
+    }
+
+    // 좋아요 동기화 대상 게시물을 처리 중 zset 으로 옮기는 스크립트
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> likeDirtyClaimScript() {
+        return RedisScript.of(new ClassPathResource("scripts/like_dirty_claim.lua"), List.class);
+    }
+
+    // 반영하지 못한 좋아요 동기화 대상을 되돌리는 스크립트
+    @Bean
+    public RedisScript<Long> likeDirtyRestoreScript() {
+        return RedisScript.of(new ClassPathResource("scripts/like_dirty_restore.lua"), Long.class);
+    }
+
+    // 노드별 좋아요 카운터 상태 병합 스크립트
+    @Bean
+    public RedisScript<Long> likeCrdtMergeScript() {
+        return RedisScript.of(new ClassPathResource("scripts/like_crdt_merge.lua"), Long.class);
+    }
+
+    // 인기 게시물 점수 재조정 스크립트
+    @Bean
+    public RedisScript<Long> trendingRescaleScript() {
+        return RedisScript.of(new ClassPathResource("scripts/trending_rescale.lua"), Long.class);
+    }
+
+    // 팔로우 관계 set 갱신 스크립트
+    @Bean
+    public RedisScript<Long> followUpdateScript() {
+        return RedisScript.of(new ClassPathResource("scripts/follow_update.lua"), Long.class);
+    }
+
+    // 팔로우 관계 set 재생성 스크립트
+    @Bean
+    public RedisScript<Long> followRebuildScript() {
+        return RedisScript.of(new ClassPathResource("scripts/follow_rebuild.lua"), Long.class);
+    }
+
+    // 홈 피드 타임라인 추가 스크립트
+    @Bean
+    public RedisScript<Long> feedPushScript() {
+        return RedisScript.of(new ClassPathResource("scripts/feed_push.lua"), Long.class);
+    }
 }
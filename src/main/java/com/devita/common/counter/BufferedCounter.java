@@ -0,0 +1,91 @@
+package com.devita.common.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// id별 증감분을 메모리에 모아두는 카운터 (LongAdder 로 스트라이핑되어 핫 키에도 경합이 적음)
+// 꺼낼 때는 맵을 통째로 새 맵으로 바꾸고 기록 중인 스레드가 끝나길 기다린 뒤 합산하므로 동시에 더해진 값이 유실되지 않음
+// 쓰기 버퍼와 꺼낸 버퍼는 한 번에 바꾸므로 getPending 은 교체 도중에도 둘 중 하나를 빠뜨리지 않음
+public class BufferedCounter {
+
+    private volatile State state = new State(new Buffer(), null);
+
+    public void add(Long id, long delta) {
+        while (true) {
+            Buffer buffer = state.active();
+            buffer.writers.incrementAndGet();
+            try {
+                // 버퍼가 막 바뀌었으면 새 버퍼에 다시 기록
+                if (buffer == state.active()) {
+                    buffer.counters.computeIfAbsent(id, key -> new LongAdder()).add(delta);
+                    return;
+                }
+            } finally {
+                buffer.writers.decrementAndGet();
+            }
+        }
+    }
+
+    // 아직 반영되지 않은 증감분 (꺼냈지만 release 전인 증감분 포함)
+    public long getPending(Long id) {
+        State current = state;
+
+        long pending = current.active().sum(id);
+        if (current.draining() != null) {
+            pending += current.draining().sum(id);
+        }
+        return pending;
+    }
+
+    // 반영 전에 버린 id (삭제된 게시물 등)
+    public void remove(Long id) {
+        state.active().counters.remove(id);
+    }
+
+    // 누적된 증감분을 꺼내고 새 버퍼로 교체 (한 주기 동안 변화가 없던 id는 새 버퍼에 남지 않음)
+    // 꺼낸 증감분은 반영이 끝나서 release 를 호출할 때까지 getPending 에 포함
+    public synchronized Map<Long, Long> drain() {
+        Buffer drained = state.active();
+        state = new State(new Buffer(), drained);
+        while (drained.writers.get() != 0) {
+            Thread.onSpinWait();
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        drained.counters.forEach((id, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                deltas.put(id, delta);
+            }
+        });
+
+        return deltas;
+    }
+
+    // 꺼낸 증감분의 반영이 끝나면 getPending 에서 제외
+    public synchronized void release() {
+        state = new State(state.active(), null);
+    }
+
+    public boolean isEmpty() {
+        return state.active().counters.isEmpty();
+    }
+
+    // 쓰기 버퍼와 반영 중인 버퍼 (반영 중인 버퍼가 없으면 null)
+    private record State(Buffer active, Buffer draining) {
+    }
+
+    private static final class Buffer {
+        private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+        // 이 버퍼에 기록 중인 스레드 수
+        private final AtomicInteger writers = new AtomicInteger();
+
+        private long sum(Long id) {
+            LongAdder adder = counters.get(id);
+            return adder == null ? 0L : adder.sum();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.devita.common.counter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 카운터 증감분 append-only 로그 (memory-mapped 파일)
+// JVM 이 비정상 종료되어도 매핑된 페이지는 OS 가 파일에 기록하므로 다음 기동 시 다시 읽을 수 있음
+// 레코드(24 byte): id(8) | delta(8) | generation(4) | checksum(4)
+// checksum 을 마지막에 써서 쓰다 만 레코드는 읽을 때 걸러지고, reset 은 헤더의 generation 만 올려서 이전 레코드를 한 번에 무효화
+// 같은 디렉터리를 쓰는 다른 프로세스가 레코드를 덮어쓰지 않도록 파일을 잠근 채로 사용
+class CounterEventLog implements AutoCloseable {
+
+    static final int RECORD_SIZE = 24;
+    static final int HEADER_SIZE = 16;
+    private static final long MAGIC = 0x4456_4354_4C4F_4701L;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final AtomicInteger position = new AtomicInteger(HEADER_SIZE);
+    private volatile int generation;
+
+    private CounterEventLog(FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    static CounterEventLog open(Path path, int capacity) {
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            lock(channel, path);
+            CounterEventLog eventLog = new CounterEventLog(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), capacity);
+            eventLog.readHeader();
+            return eventLog;
+        } catch (IOException e) {
+            throw new UncheckedIOException("카운터 로그를 열 수 없음: " + path, e);
+        }
+    }
+
+    // 잠금은 채널을 닫을 때 해제됨
+    private static void lock(FileChannel channel, Path path) throws IOException {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+
+        if (lock == null) {
+            channel.close();
+            throw new IllegalStateException("다른 프로세스가 사용 중인 카운터 로그: " + path);
+        }
+    }
+
+    // 남은 공간이 없으면 false (호출한 쪽은 메모리 버퍼에만 반영)
+    boolean append(long id, long delta) {
+        // 가득 찬 뒤에는 위치를 더 늘리지 않음
+        if (position.get() + RECORD_SIZE > capacity) {
+            return false;
+        }
+
+        int offset = position.getAndAdd(RECORD_SIZE);
+        if (offset + RECORD_SIZE > capacity) {
+            return false;
+        }
+
+        int currentGeneration = generation;
+        buffer.putLong(offset, id);
+        buffer.putLong(offset + 8, delta);
+        buffer.putInt(offset + 16, currentGeneration);
+        buffer.putInt(offset + 20, checksum(id, delta, currentGeneration));
+        return true;
+    }
+
+    // 유효한 레코드를 id별로 합산하고, 이어서 쓸 위치를 마지막 유효 레코드 다음으로 맞춤
+    // 여러 스레드가 동시에 쓰다가 중단되면 중간에 빈 레코드가 생길 수 있어 끝까지 확인 (이전 generation 레코드는 제외)
+    Map<Long, Long> replay() {
+        Map<Long, Long> deltas = new HashMap<>();
+
+        int end = HEADER_SIZE;
+        for (int offset = HEADER_SIZE; offset + RECORD_SIZE <= capacity; offset += RECORD_SIZE) {
+            long id = buffer.getLong(offset);
+            long delta = buffer.getLong(offset + 8);
+            int recordGeneration = buffer.getInt(offset + 16);
+            if (recordGeneration != generation || buffer.getInt(offset + 20) != checksum(id, delta, recordGeneration)) {
+                continue;
+            }
+
+            deltas.merge(id, delta, Long::sum);
+            end = offset + RECORD_SIZE;
+        }
+        position.set(end);
+
+        return deltas;
+    }
+
+    // 기록된 레코드를 모두 무효화 (쓰는 스레드가 없을 때만 호출)
+    void reset() {
+        generation++;
+        buffer.putInt(12, generation);
+        buffer.force(0, HEADER_SIZE);
+        position.set(HEADER_SIZE);
+    }
+
+    boolean isEmpty() {
+        return position.get() == HEADER_SIZE;
+    }
+
+    @Override
+    public void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 새 파일이면 헤더를 쓰고, 기존 파일이면 generation 을 읽음
+    private void readHeader() {
+        if (buffer.getLong(0) != MAGIC) {
+            buffer.putLong(0, MAGIC);
+            buffer.putInt(8, 0);
+            buffer.putInt(12, 0);
+            buffer.force(0, HEADER_SIZE);
+        }
+        generation = buffer.getInt(12);
+    }
+
+    private static int checksum(long id, long delta, int generation) {
+        long hash = id * 0x9E37_79B9_7F4A_7C15L ^ delta * 0xC2B2_AE3D_27D4_EB4FL ^ generation;
+        hash ^= hash >>> 31;
+        // 0으로 초기화된 영역이 유효한 레코드로 읽히지 않도록 함
+        return (int) (hash ^ hash >>> 32) | 1;
+    }
+}
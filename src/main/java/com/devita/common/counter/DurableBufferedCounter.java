@@ -0,0 +1,124 @@
+package com.devita.common.counter;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// 증감분을 메모리 버퍼와 memory-mapped 로그에 함께 기록하는 카운터
+// 로그 파일 두 개를 번갈아 사용 - 반영할 때 쓰기 대상을 다른 파일로 바꾸고, 이전 파일의 증감분을 반영한 뒤 비움
+// 각 파일의 버퍼는 그 파일의 레코드 합계와 항상 같으므로 기동 시 파일을 다시 읽으면 반영되지 않은 증감분이 복구됨
+// (DB 반영 직후 로그를 비우기 전에 종료되면 그 구간의 증감분은 한 번 더 반영될 수 있음)
+@Slf4j
+public class DurableBufferedCounter implements AutoCloseable {
+
+    private static final long LOG_FULL_WARN_INTERVAL_MILLIS = 60_000;
+
+    private final String name;
+    private final Segment[] segments = new Segment[2];
+    private volatile Segment active;
+    // 로그 공간이 부족해서 메모리에만 반영한 건수 (경고 로그는 주기당 한 번만 남김)
+    private final AtomicLong unlogged = new AtomicLong();
+    private final AtomicLong lastLogFullWarnAt = new AtomicLong();
+
+    public DurableBufferedCounter(Path directory, String name, int segmentBytes) {
+        this.name = name;
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(CounterEventLog.open(directory.resolve(name + "-" + i + ".log"), segmentBytes));
+        }
+        this.active = segments[0];
+
+        // 이전 실행에서 반영되지 못한 증감분 복구 (로그는 그대로 두고 버퍼만 채움)
+        for (Segment segment : segments) {
+            Map<Long, Long> recovered = segment.eventLog.replay();
+            recovered.forEach(segment.counter::add);
+            if (!recovered.isEmpty()) {
+                log.info("카운터 로그 복구: {} {}건", name, recovered.size());
+                // 반영은 쓰기 대상 파일을 꺼내므로 복구한 파일을 쓰기 대상으로 두어 다음 반영에 포함
+                this.active = segment;
+            }
+        }
+    }
+
+    // 요청 경로 - 새 객체를 만들지 않고 로그와 버퍼에 기록
+    public void add(Long id, long delta) {
+        while (true) {
+            Segment segment = active;
+            segment.writers.incrementAndGet();
+            try {
+                // 쓰기 대상이 막 바뀌었으면 새 파일에 다시 기록
+                if (segment == active) {
+                    if (!segment.eventLog.append(id, delta)) {
+                        warnLogFull();
+                    }
+                    segment.counter.add(id, delta);
+                    return;
+                }
+            } finally {
+                segment.writers.decrementAndGet();
+            }
+        }
+    }
+
+    // 아직 반영되지 않은 증감분
+    public long getPending(Long id) {
+        return segments[0].counter.getPending(id) + segments[1].counter.getPending(id);
+    }
+
+    // 쓰기 대상을 바꾸고 이전 파일의 증감분을 writer 로 반영, 실패하면 현재 파일로 옮겨서 다음 반영 때 다시 시도
+    public synchronized void flush(Consumer<Map<Long, Long>> writer) {
+        Segment flushing = active;
+        active = flushing == segments[0] ? segments[1] : segments[0];
+        while (flushing.writers.get() != 0) {
+            Thread.onSpinWait();
+        }
+
+        Map<Long, Long> deltas = flushing.counter.drain();
+        if (deltas.isEmpty()) {
+            flushing.counter.release();
+            flushing.eventLog.reset();
+            return;
+        }
+
+        // 꺼낸 증감분은 writer 가 반영을 마칠 때까지 getPending 에 남겨서 조회 값이 줄어들지 않도록 함
+        try {
+            writer.accept(deltas);
+        } catch (RuntimeException e) {
+            deltas.forEach(this::add);
+            throw e;
+        } finally {
+            flushing.counter.release();
+            flushing.eventLog.reset();
+        }
+    }
+
+    private void warnLogFull() {
+        unlogged.incrementAndGet();
+        long now = System.currentTimeMillis();
+        long last = lastLogFullWarnAt.get();
+        if (now - last >= LOG_FULL_WARN_INTERVAL_MILLIS && lastLogFullWarnAt.compareAndSet(last, now)) {
+            log.warn("카운터 로그 공간 부족, 메모리에만 반영: {} {}건", name, unlogged.getAndSet(0));
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Segment segment : segments) {
+            segment.eventLog.close();
+        }
+    }
+
+    private static final class Segment {
+        private final CounterEventLog eventLog;
+        private final BufferedCounter counter = new BufferedCounter();
+        // 이 파일에 기록 중인 스레드 수
+        private final AtomicInteger writers = new AtomicInteger();
+
+        private Segment(CounterEventLog eventLog) {
+            this.eventLog = eventLog;
+        }
+    }
+}
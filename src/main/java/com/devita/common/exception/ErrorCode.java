@@ -14,11 +14,16 @@ public enum ErrorCode {
     INVALID_REWARD_VALUE(HttpStatus.BAD_REQUEST, "INVALID_REWARD_VALUE", "잘못된 보상 값이 설정되었습니다."),
     INVALID_CATEGORY_NAME(HttpStatus.BAD_REQUEST, "INVALID_CATEGORY_NAME", "카테고리 이름은 필수 입력 항목입니다."),
     INVALID_CATEGORY_COLOR(HttpStatus.BAD_REQUEST, "INVALID_CATEGORY_COLOR", "카테고리 색상은 필수 입력 항목입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "잘못된 커서 값입니다."),
+    INVALID_PAGE_SIZE(HttpStatus.BAD_REQUEST, "INVALID_PAGE_SIZE", "페이지 크기는 1 이상이어야 합니다."),
+    INVALID_COMMENT_CONTENT(HttpStatus.BAD_REQUEST, "INVALID_COMMENT_CONTENT", "댓글 내용은 1자 이상 1000자 이하로 입력해야 합니다."),
+    TOO_MANY_FOLLOW_TARGETS(HttpStatus.BAD_REQUEST, "TOO_MANY_FOLLOW_TARGETS", "팔로우 여부는 한 번에 100명까지 확인할 수 있습니다."),
 
     // 403 Forbidden
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "접근이 거부되었습니다."),
     TODO_ACCESS_DENIED(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "해당 사용자에게 할 일 접근 권한이 없습니다.."),
     POST_ACCESS_DENIED(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "해당 게시물에 접근 권한이 없습니다.."),
+    COMMENT_ACCESS_DENIED(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "해당 댓글에 접근 권한이 없습니다."),
     CATEGORY_ACCESS_DENIED(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "해당 사용자에게 카테고리 접근 권한이 없습니다.."),
     INSUFFICIENT_SUPPLEMENTS(HttpStatus.FORBIDDEN, "INSUFFICIENT_SUPPLEMENTS", "해당 사용자의 영양제가 부족하여 사용할 수 없습니다."),
     DAILY_REWARD_LIMIT_EXCEEDED(HttpStatus.FORBIDDEN, "DAILY_REWARD_LIMIT_EXCEEDED", "일일 보상 한도를 초과했습니다."),
@@ -32,10 +37,14 @@ public enum ErrorCode {
     VIEW_TYPE_NOT_FOUND(HttpStatus.NOT_FOUND, "VIEW_TYPE_NOT_FOUND", "뷰타입은 weekly와 monthly만 받을 수 있습니다."),
     REWARD_NOT_FOUND(HttpStatus.NOT_FOUND, "REWARD_NOT_FOUND", "보상을 찾을 수 없습니다."),
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "POST_NOT_FOUND", "게시물을 찾을 수 없습니다."),
+    COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "COMMENT_NOT_FOUND", "댓글을 찾을 수 없습니다."),
     CANNOT_FOLLOW_YOURSELF(HttpStatus.NOT_FOUND, "CANNOT_FOLLOW_YOURSELF", "자기 자신은 팔로우 할 수 없습니다."),
     ALREADY_FOLLOWING(HttpStatus.NOT_FOUND, "ALREADY_FOLLOWING", "이미 팔로우가 되어있습니다."),
     FOLLOW_NOT_FOUND(HttpStatus.NOT_FOUND,"FOLLOW_NOT_FOUND", "팔로우를 찾을 수 없습니다."),
 
+    // 409 Conflict
+    LIKE_UPDATE_CONFLICT(HttpStatus.CONFLICT, "LIKE_UPDATE_CONFLICT", "좋아요 처리 중 충돌이 발생했습니다. 잠시 후 다시 시도해주세요."),
+
     // 500 Internal Server Error
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "서버 에러가 발생했습니다."),
     AI_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "AI_SERVER_ERROR", "AI 서버와의 통신 에러가 발생했습니다."),
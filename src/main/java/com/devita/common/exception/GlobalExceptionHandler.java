@@ -31,6 +31,13 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(ApiResponse.error(errorResponse), ex.getErrorCode().getStatus());
     }
 
+    // 409 Conflict
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ApiResponse<?>> handleConflictException(ConflictException ex, HttpServletRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.of(ex.getErrorCode(), request.getRequestURI());
+        return new ResponseEntity<>(ApiResponse.error(errorResponse), ex.getErrorCode().getStatus());
+    }
+
     // Security Error
     @ExceptionHandler(SecurityTokenException.class)
     public ResponseEntity<ApiResponse<?>> handleNotFoundException(SecurityTokenException ex, HttpServletRequest request) {
@@ -0,0 +1,26 @@
+package com.devita.common.util;
+
+import com.devita.common.exception.ErrorCode;
+import com.devita.common.exception.IllegalArgumentException;
+
+// 목록 조회 페이지 크기 검증
+public final class PageSizes {
+
+    // 목록 한 페이지 최대 크기 (별도 기준이 없는 목록의 기본값)
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private PageSizes() {
+    }
+
+    // 1 미만은 거절하고 최대 크기를 넘으면 최대 크기로 제한
+    public static int validate(int size, int maxSize) {
+        if (size < 1) {
+            throw new IllegalArgumentException(ErrorCode.INVALID_PAGE_SIZE);
+        }
+        return Math.min(size, maxSize);
+    }
+
+    public static int validate(int size) {
+        return validate(size, MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,50 @@
+package com.devita.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 오래 걸리는 스케줄 작업이 스케줄러 스레드를 점유하지 않도록 별도 스레드 하나에서 실행
+// 이전 실행이 끝나지 않았으면 새로 실행하지 않고 건너뜀 (실행이 밀려서 쌓이지 않도록)
+@Slf4j
+public class SingleRunExecutor {
+
+    private final String taskName;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // threadName: 실행 스레드 이름, taskName: 오류 로그에 남길 작업 이름
+    public SingleRunExecutor(String threadName, String taskName) {
+        this.taskName = taskName;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 실행 중인 작업이 없을 때만 실행하고 실행 여부 반환
+    public boolean execute(Runnable task) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("{} 중 오류 발생: {}", taskName, e.getMessage());
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    // 실행 중인 작업은 인터럽트
+    public void shutdownNow() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,26 @@
+package com.devita.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 커밋 이후에 실행할 작업 (캐시, Redis 등 DB 밖의 상태 변경)
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 실행하고 롤백되면 실행하지 않음, 트랜잭션 밖이면 바로 실행
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package com.devita.domain.comment.controller;
+
+import com.devita.common.response.ApiResponse;
+import com.devita.domain.comment.dto.CommentPageResDTO;
+import com.devita.domain.comment.dto.CommentReqDTO;
+import com.devita.domain.comment.service.CommentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class CommentController {
+
+    private final CommentService commentService;
+
+    // 댓글 작성
+    @PostMapping("/post/{postId}/comment")
+    public ApiResponse<Long> addComment(@AuthenticationPrincipal Long userId, @PathVariable Long postId, @RequestBody CommentReqDTO commentReqDTO) {
+        Long commentId = commentService.addComment(userId, postId, commentReqDTO);
+
+        return ApiResponse.success(commentId);
+    }
+
+    // 댓글 삭제
+    @DeleteMapping("/comment/{commentId}")
+    public ApiResponse<Void> deleteComment(@AuthenticationPrincipal Long userId, @PathVariable Long commentId) {
+        commentService.deleteComment(userId, commentId);
+
+        return ApiResponse.success(null);
+    }
+
+    // 댓글 목록 (첫 페이지는 cursor 없이 요청)
+    @GetMapping("/post/{postId}/comments")
+    public ApiResponse<CommentPageResDTO> getComments(@PathVariable Long postId, @RequestParam(required = false) Long cursor, @RequestParam(defaultValue = "20") int size) {
+        CommentPageResDTO comments = commentService.getComments(postId, cursor, size);
+
+        return ApiResponse.success(comments);
+    }
+}
@@ -0,0 +1,42 @@
+package com.devita.domain.comment.domain;
+
+import com.devita.common.entity.BaseEntity;
+import com.devita.domain.post.domain.Post;
+import com.devita.domain.user.domain.User;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(indexes = {
+        // 게시물별 keyset 조회 (post_id = ? AND id > ? ORDER BY id)
+        @Index(name = "idx_comment_post_id_id", columnList = "post_id, id")
+})
+@Getter
+@NoArgsConstructor
+public class Comment extends BaseEntity {
+    public static final int MAX_CONTENT_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    private Post post;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "writer_id", nullable = false)
+    private User writer;
+
+    @Column(nullable = false, length = MAX_CONTENT_LENGTH)
+    private String content;
+
+    @Builder
+    public Comment(Post post, User writer, String content) {
+        this.post = post;
+        this.writer = writer;
+        this.content = content;
+    }
+}
@@ -0,0 +1,10 @@
+package com.devita.domain.comment.dto;
+
+import java.util.List;
+
+// 댓글 목록 (nextCursor 는 마지막 댓글 id, null 이면 마지막 페이지)
+public record CommentPageResDTO(
+        List<CommentResDTO> comments,
+        Long nextCursor
+) {
+}
@@ -0,0 +1,6 @@
+package com.devita.domain.comment.dto;
+
+public record CommentReqDTO(
+        String content
+) {
+}
@@ -0,0 +1,13 @@
+package com.devita.domain.comment.dto;
+
+import com.devita.domain.user.dto.UserSummaryDTO;
+
+import java.time.LocalDateTime;
+
+public record CommentResDTO(
+        Long id,
+        UserSummaryDTO writer,
+        String content,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.devita.domain.comment.dto;
+
+import java.time.LocalDateTime;
+
+// 댓글 목록 조회용 프로젝션 - 작성자는 id만 읽고 따로 한 번에 조회
+public record CommentSummaryDTO(
+        Long id,
+        Long writerId,
+        String content,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,26 @@
+package com.devita.domain.comment.repository;
+
+import com.devita.domain.comment.domain.Comment;
+import com.devita.domain.comment.dto.CommentSummaryDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // 게시물의 댓글을 작성 순으로 keyset 조회 (post_id, id 인덱스만 사용, OFFSET/COUNT 없음)
+    @Query("SELECT new com.devita.domain.comment.dto.CommentSummaryDTO(c.id, c.writer.id, c.content, c.createdAt) " +
+            "FROM Comment c WHERE c.post.id = :postId AND c.id > :cursor ORDER BY c.id ASC")
+    List<CommentSummaryDTO> findPageByPostId(@Param("postId") Long postId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 게시물 삭제 전에 댓글을 한 번에 삭제 (엔티티를 로딩하지 않음)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
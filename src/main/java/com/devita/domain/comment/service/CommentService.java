@@ -0,0 +1,105 @@
+package com.devita.domain.comment.service;
+
+import com.devita.common.exception.AccessDeniedException;
+import com.devita.common.exception.IllegalArgumentException;
+import com.devita.common.exception.ResourceNotFoundException;
+import com.devita.common.util.PageSizes;
+import com.devita.domain.comment.domain.Comment;
+import com.devita.domain.comment.dto.CommentPageResDTO;
+import com.devita.domain.comment.dto.CommentReqDTO;
+import com.devita.domain.comment.dto.CommentResDTO;
+import com.devita.domain.comment.dto.CommentSummaryDTO;
+import com.devita.domain.comment.repository.CommentRepository;
+import com.devita.domain.post.repository.PostRepository;
+import com.devita.domain.post.service.PostCommentCounter;
+import com.devita.domain.user.dto.UserSummaryDTO;
+import com.devita.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.devita.common.exception.ErrorCode.COMMENT_ACCESS_DENIED;
+import static com.devita.common.exception.ErrorCode.COMMENT_NOT_FOUND;
+import static com.devita.common.exception.ErrorCode.INVALID_COMMENT_CONTENT;
+import static com.devita.common.exception.ErrorCode.POST_NOT_FOUND;
+import static com.devita.common.exception.ErrorCode.USER_NOT_FOUND;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CommentService {
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PostCommentCounter postCommentCounter;
+
+    // 댓글 작성 (게시물 댓글 수는 버퍼에 모아서 주기적으로 반영)
+    public Long addComment(Long userId, Long postId, CommentReqDTO commentReqDTO) {
+        String content = commentReqDTO.content();
+        if (content == null || content.isBlank() || content.length() > Comment.MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException(INVALID_COMMENT_CONTENT);
+        }
+        if (!postRepository.existsById(postId)) {
+            throw new ResourceNotFoundException(POST_NOT_FOUND);
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException(USER_NOT_FOUND);
+        }
+
+        Comment comment = Comment.builder()
+                .post(postRepository.getReferenceById(postId))
+                .writer(userRepository.getReferenceById(userId))
+                .content(content)
+                .build();
+
+        Long commentId = commentRepository.save(comment).getId();
+        postCommentCounter.increase(postId);
+
+        return commentId;
+    }
+
+    // 댓글 삭제 (작성자만 가능)
+    public void deleteComment(Long userId, Long commentId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new ResourceNotFoundException(COMMENT_NOT_FOUND));
+        if (!comment.getWriter().getId().equals(userId)) {
+            throw new AccessDeniedException(COMMENT_ACCESS_DENIED);
+        }
+
+        Long postId = comment.getPost().getId();
+        commentRepository.delete(comment);
+        postCommentCounter.decrease(postId);
+    }
+
+    // 댓글 목록 (cursor 는 이전 페이지 마지막 댓글 id, 작성자는 한 번의 IN 쿼리로 조회)
+    public CommentPageResDTO getComments(Long postId, Long cursor, int size) {
+        int pageSize = PageSizes.validate(size);
+        List<CommentSummaryDTO> comments = commentRepository.findPageByPostId(postId, cursor == null ? 0L : cursor, PageRequest.of(0, pageSize));
+        if (comments.isEmpty()) {
+            return new CommentPageResDTO(List.of(), null);
+        }
+
+        List<Long> writerIds = comments.stream()
+                .map(CommentSummaryDTO::writerId)
+                .distinct()
+                .toList();
+        Map<Long, UserSummaryDTO> writers = userRepository.findSummariesByIdIn(writerIds).stream()
+                .collect(Collectors.toMap(UserSummaryDTO::userId, Function.identity()));
+
+        List<CommentResDTO> commentResDTOs = comments.stream()
+                .map(comment -> new CommentResDTO(comment.id(), writers.get(comment.writerId()), comment.content(), comment.createdAt()))
+                .toList();
+
+        // 페이지 크기만큼 채워졌을 때만 다음 커서 발급
+        Long nextCursor = comments.size() == pageSize ? comments.get(comments.size() - 1).id() : null;
+
+        return new CommentPageResDTO(commentResDTOs, nextCursor);
+    }
+}
@@ -0,0 +1,27 @@
+package com.devita.domain.feed.controller;
+
+import com.devita.common.response.ApiResponse;
+import com.devita.domain.feed.dto.FeedResDTO;
+import com.devita.domain.feed.service.FeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class FeedController {
+
+    private final FeedService feedService;
+
+    // 홈 피드 조회 (첫 페이지는 cursor 없이 요청)
+    @GetMapping("/feed")
+    public ApiResponse<FeedResDTO> getFeed(@AuthenticationPrincipal Long userId, @RequestParam(required = false) Long cursor, @RequestParam(defaultValue = "10") int size) {
+        FeedResDTO feed = feedService.getFeed(userId, cursor, size);
+
+        return ApiResponse.success(feed);
+    }
+}
@@ -0,0 +1,12 @@
+package com.devita.domain.feed.dto;
+
+import com.devita.domain.post.dto.PostsResDTO;
+
+import java.util.List;
+
+// 홈 피드 응답 - nextCursor 는 마지막 게시물 id (더 없으면 null)
+public record FeedResDTO(
+        List<PostsResDTO> posts,
+        Long nextCursor
+) {
+}
@@ -0,0 +1,200 @@
+package com.devita.domain.feed.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 홈 피드 Redis 저장소
+// feed:timeline:{userId} - 팔로우한 작성자들의 게시물 id (fan-out-on-write 대상)
+// feed:outbox:{userId} - 작성자 본인의 최신 게시물 id (대형 작성자는 조회 시점에 병합)
+// 두 zset 모두 score = member = postId 이고, 비어 있어도 키가 유지되도록 score 0 인 표시용 member 를 둠
+@Repository
+@RequiredArgsConstructor
+public class FeedRedisRepository {
+
+    private static final String TIMELINE_KEY_PREFIX = "feed:timeline:";
+    private static final String OUTBOX_KEY_PREFIX = "feed:outbox:";
+    private static final String CELEBRITY_KEY = "feed:celebrities";
+    private static final byte[] PLACEHOLDER = "0".getBytes(StandardCharsets.UTF_8);
+    // 스크립트 한 번에 넘기는 최대 키 수
+    private static final int PUSH_BATCH_SIZE = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<Long> feedPushScript;
+
+    @Value("${feed.timeline.max-size:800}")
+    private int maxSize;
+
+    @Value("${feed.timeline.ttl-days:7}")
+    private long ttlDays;
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    // 타임라인에서 cursor 보다 오래된 게시물 id를 최신순으로 조회, 타임라인이 없으면 null
+    public List<Long> getTimeline(Long userId, Long cursor, int size) {
+        return range(TIMELINE_KEY_PREFIX + userId, cursor, size);
+    }
+
+    public List<Long> getOutbox(Long authorId, Long cursor, int size) {
+        return range(OUTBOX_KEY_PREFIX + authorId, cursor, size);
+    }
+
+    // 여러 작성자의 outbox 를 파이프라인 한 번으로 조회 (outbox 가 없는 작성자의 값은 null)
+    @SuppressWarnings("unchecked")
+    public Map<Long, List<Long>> getOutboxes(List<Long> authorIds, Long cursor, int size) {
+        if (authorIds.isEmpty()) {
+            return Map.of();
+        }
+
+        double max = maxScore(cursor);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            authorIds.forEach(authorId -> {
+                byte[] rawKey = (OUTBOX_KEY_PREFIX + authorId).getBytes(StandardCharsets.UTF_8);
+                connection.zSetCommands().zRevRangeByScore(rawKey, 1, max, 0, size);
+                connection.keyCommands().exists(rawKey);
+            });
+            return null;
+        });
+
+        Map<Long, List<Long>> outboxes = new HashMap<>();
+        for (int i = 0; i < authorIds.size(); i++) {
+            Set<String> postIds = (Set<String>) results.get(i * 2);
+            boolean exists = Boolean.TRUE.equals(results.get(i * 2 + 1));
+            outboxes.put(authorIds.get(i), exists ? toPostIds(postIds) : null);
+        }
+        return outboxes;
+    }
+
+    public void saveTimeline(Long userId, Collection<Long> postIds) {
+        save(TIMELINE_KEY_PREFIX + userId, postIds);
+    }
+
+    public void saveOutbox(Long authorId, Collection<Long> postIds) {
+        save(OUTBOX_KEY_PREFIX + authorId, postIds);
+    }
+
+    // 조회한 사용자의 타임라인 만료 시간 연장
+    public void touchTimeline(Long userId) {
+        redisTemplate.expire(TIMELINE_KEY_PREFIX + userId, Duration.ofDays(ttlDays));
+    }
+
+    // 이미 만들어진 팔로워 타임라인에만 게시물 추가, 추가된 타임라인 수 반환
+    public long pushToTimelines(List<Long> userIds, Long postId) {
+        long pushed = 0;
+        for (int from = 0; from < userIds.size(); from += PUSH_BATCH_SIZE) {
+            List<String> keys = userIds.subList(from, Math.min(from + PUSH_BATCH_SIZE, userIds.size())).stream()
+                    .map(userId -> TIMELINE_KEY_PREFIX + userId)
+                    .toList();
+            Long result = redisTemplate.execute(feedPushScript, keys, postId.toString(), String.valueOf(maxSize));
+            pushed += result == null ? 0 : result;
+        }
+        return pushed;
+    }
+
+    public void pushToOutbox(Long authorId, Long postId) {
+        redisTemplate.execute(feedPushScript, List.of(OUTBOX_KEY_PREFIX + authorId), postId.toString(), String.valueOf(maxSize));
+    }
+
+    // 팔로우 직후 대상 작성자의 게시물을 타임라인에 병합 (타임라인이 없으면 조회 시점에 다시 만들어지므로 생략)
+    public void addToTimeline(Long userId, Collection<Long> postIds) {
+        String key = TIMELINE_KEY_PREFIX + userId;
+        if (postIds.isEmpty() || !Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return;
+        }
+
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            postIds.forEach(postId -> connection.zSetCommands().zAdd(rawKey, postId, toBytes(postId)));
+            connection.zSetCommands().zRemRange(rawKey, 0, -(maxSize + 1L));
+            return null;
+        });
+    }
+
+    public void removeFromTimeline(Long userId, Collection<Long> postIds) {
+        if (!postIds.isEmpty()) {
+            redisTemplate.opsForZSet().remove(TIMELINE_KEY_PREFIX + userId, postIds.stream().map(String::valueOf).toArray());
+        }
+    }
+
+    // 삭제된 게시물을 팔로워 타임라인에서 제거
+    public void removeFromTimelines(List<Long> userIds, Long postId) {
+        byte[] member = toBytes(postId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            userIds.forEach(userId -> connection.zSetCommands().zRem((TIMELINE_KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8), member));
+            return null;
+        });
+    }
+
+    public void removeFromOutbox(Long authorId, Long postId) {
+        redisTemplate.opsForZSet().remove(OUTBOX_KEY_PREFIX + authorId, postId.toString());
+    }
+
+    // 팔로워 수가 기준을 넘어 fan-out-on-read 로 처리하는 작성자
+    public Set<Long> getCelebrityIds() {
+        Set<String> members = redisTemplate.opsForSet().members(CELEBRITY_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+
+        return members.stream()
+                .map(Long::parseLong)
+                .collect(Collectors.toSet());
+    }
+
+    public boolean isCelebrity(Long authorId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(CELEBRITY_KEY, authorId.toString()));
+    }
+
+    public void addCelebrity(Long authorId) {
+        redisTemplate.opsForSet().add(CELEBRITY_KEY, authorId.toString());
+    }
+
+    private List<Long> range(String key, Long cursor, int size) {
+        Set<String> postIds = redisTemplate.opsForZSet().reverseRangeByScore(key, 1, maxScore(cursor), 0, size);
+
+        if ((postIds == null || postIds.isEmpty()) && !Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return null;
+        }
+
+        return toPostIds(postIds);
+    }
+
+    // 표시용 member(score 0)는 제외하고 cursor 미만만 조회
+    private double maxScore(Long cursor) {
+        return cursor == null ? Double.POSITIVE_INFINITY : cursor - 1;
+    }
+
+    private List<Long> toPostIds(Set<String> postIds) {
+        return postIds == null ? List.of() : postIds.stream()
+                .map(Long::parseLong)
+                .toList();
+    }
+
+    private void save(String key, Collection<Long> postIds) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zAdd(rawKey, 0, PLACEHOLDER);
+            postIds.forEach(postId -> connection.zSetCommands().zAdd(rawKey, postId, toBytes(postId)));
+            connection.keyCommands().expire(rawKey, Duration.ofDays(ttlDays).toSeconds());
+            return null;
+        });
+    }
+
+    private byte[] toBytes(Long postId) {
+        return postId.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,209 @@
+package com.devita.domain.feed.service;
+
+import com.devita.common.util.PageSizes;
+import com.devita.domain.feed.dto.FeedResDTO;
+import com.devita.domain.feed.repository.FeedRedisRepository;
+import com.devita.domain.follow.repository.FollowRedisRepository;
+import com.devita.domain.follow.repository.FollowRepository;
+import com.devita.domain.post.dto.PostSummaryDTO;
+import com.devita.domain.post.dto.PostsResDTO;
+import com.devita.domain.post.repository.PostRepository;
+import com.devita.domain.post.service.like.LikeCounterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 홈 피드 - 일반 작성자는 fan-out-on-write, 팔로워가 많은 작성자는 조회 시점에 outbox 를 병합 (fan-out-on-read)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FeedService {
+
+    private final FeedRedisRepository feedRedisRepository;
+    private final PostRepository postRepository;
+    private final FollowRepository followRepository;
+    private final FollowRedisRepository followRedisRepository;
+    private final LikeCounterRegistry likeCounterRegistry;
+    private final TaskExecutor feedFanOutExecutor;
+
+    // 이 수 이상의 팔로워를 가진 작성자는 fan-out 하지 않음 (한 번 분류되면 유지)
+    @Value("${feed.fan-out.follower-threshold:10000}")
+    private int followerThreshold;
+
+    // 게시물 작성 - 작성자 outbox 에 추가하고 팔로워 타임라인 전달은 별도 스레드에서 처리
+    public void publish(Long authorId, Long postId) {
+        feedRedisRepository.pushToOutbox(authorId, postId);
+        feedFanOutExecutor.execute(() -> fanOut(authorId, postId));
+    }
+
+    private void fanOut(Long authorId, Long postId) {
+        try {
+            if (feedRedisRepository.isCelebrity(authorId)) {
+                return;
+            }
+
+            List<Long> followerIds = followRepository.findFollowerIds(authorId);
+            if (followerIds.size() >= followerThreshold) {
+                feedRedisRepository.addCelebrity(authorId);
+                return;
+            }
+
+            long pushed = feedRedisRepository.pushToTimelines(followerIds, postId);
+            log.debug("피드 전달 완료: postId={}, followers={}, timelines={}", postId, followerIds.size(), pushed);
+        } catch (RuntimeException e) {
+            // 전달되지 못한 타임라인은 만료 후 재구성될 때 반영됨
+            log.warn("피드 전달 실패: postId={}", postId, e);
+        }
+    }
+
+    // 게시물 삭제 - 대형 작성자의 게시물은 outbox 에만 있으므로 팔로워 타임라인은 건드리지 않음
+    public void unpublish(Long authorId, Long postId) {
+        feedRedisRepository.removeFromOutbox(authorId, postId);
+        feedFanOutExecutor.execute(() -> {
+            try {
+                if (!feedRedisRepository.isCelebrity(authorId)) {
+                    feedRedisRepository.removeFromTimelines(followRepository.findFollowerIds(authorId), postId);
+                }
+            } catch (RuntimeException e) {
+                // 남은 id는 조회 시점에 정리됨
+                log.warn("피드 삭제 전달 실패: postId={}", postId, e);
+            }
+        });
+    }
+
+    // 팔로우 - 대상의 최근 게시물을 타임라인에 병합
+    public void onFollow(Long userId, Long targetUserId) {
+        if (feedRedisRepository.isCelebrity(targetUserId)) {
+            return;
+        }
+
+        feedRedisRepository.addToTimeline(userId, getAuthorPostIds(targetUserId, null, feedRedisRepository.getMaxSize()));
+    }
+
+    // 언팔로우 - 타임라인에 남은 대상의 게시물을 한 번의 IN 쿼리로 골라서 제거
+    public void onUnfollow(Long userId, Long targetUserId) {
+        List<Long> timeline = feedRedisRepository.getTimeline(userId, null, feedRedisRepository.getMaxSize());
+        if (timeline == null || timeline.isEmpty()) {
+            return;
+        }
+
+        feedRedisRepository.removeFromTimeline(userId, postRepository.findIdsByWriterIdAndIdIn(targetUserId, timeline));
+    }
+
+    // 홈 피드 조회 (cursor 는 이전 페이지 마지막 게시물 id)
+    public FeedResDTO getFeed(Long userId, Long cursor, int size) {
+        int pageSize = PageSizes.validate(size);
+        List<Long> candidates = new ArrayList<>(getTimelinePostIds(userId, cursor, pageSize));
+
+        // 팔로우한 대형 작성자의 게시물은 outbox 에서 같은 cursor 기준으로 가져와 병합 (outbox 조회는 파이프라인 한 번)
+        Set<Long> celebrityIds = feedRedisRepository.getCelebrityIds();
+        if (!celebrityIds.isEmpty()) {
+            List<Long> authorIds = getFollowingCelebrityIds(userId, List.copyOf(celebrityIds));
+            feedRedisRepository.getOutboxes(authorIds, cursor, pageSize).forEach((authorId, postIds) ->
+                    candidates.addAll(postIds != null ? postIds : rebuildOutbox(authorId, cursor, pageSize)));
+        }
+
+        List<Long> postIds = candidates.stream()
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .limit(pageSize)
+                .toList();
+
+        List<PostsResDTO> posts = hydrate(userId, postIds);
+
+        // 요청한 크기만큼 채워졌을 때만 다음 커서 발급 (삭제되어 빠진 게시물이 있어도 id 기준으로 이어서 조회)
+        Long nextCursor = postIds.size() == pageSize ? postIds.get(postIds.size() - 1) : null;
+        if (cursor == null) {
+            feedRedisRepository.touchTimeline(userId);
+        }
+
+        return new FeedResDTO(posts, nextCursor);
+    }
+
+    // 팔로우한 대형 작성자 (캐시된 팔로잉 set 에 SMISMEMBER 한 번, set 이 없을 때만 IN 쿼리)
+    private List<Long> getFollowingCelebrityIds(Long userId, List<Long> celebrityIds) {
+        List<Boolean> followings = followRedisRepository.isFollowing(userId, celebrityIds);
+        if (followings == null) {
+            return followRepository.findFollowingIdsIn(userId, celebrityIds);
+        }
+
+        List<Long> authorIds = new ArrayList<>();
+        for (int i = 0; i < celebrityIds.size(); i++) {
+            if (followings.get(i)) {
+                authorIds.add(celebrityIds.get(i));
+            }
+        }
+        return authorIds;
+    }
+
+    // 타임라인이 없으면(신규/만료) 팔로우 관계로 한 번 재구성
+    private List<Long> getTimelinePostIds(Long userId, Long cursor, int size) {
+        List<Long> postIds = feedRedisRepository.getTimeline(userId, cursor, size);
+        if (postIds != null) {
+            return postIds;
+        }
+
+        List<Long> rebuilt = postRepository.findFeedPostIds(userId, PageRequest.of(0, feedRedisRepository.getMaxSize()));
+        feedRedisRepository.saveTimeline(userId, rebuilt);
+
+        return olderThan(rebuilt, cursor, size);
+    }
+
+    private List<Long> getAuthorPostIds(Long authorId, Long cursor, int size) {
+        List<Long> postIds = feedRedisRepository.getOutbox(authorId, cursor, size);
+        return postIds != null ? postIds : rebuildOutbox(authorId, cursor, size);
+    }
+
+    // outbox 가 없으면(만료) 작성자의 최근 게시물로 다시 만듦
+    private List<Long> rebuildOutbox(Long authorId, Long cursor, int size) {
+        List<Long> rebuilt = postRepository.findIdsByWriterId(authorId, PageRequest.of(0, feedRedisRepository.getMaxSize()));
+        feedRedisRepository.saveOutbox(authorId, rebuilt);
+
+        return olderThan(rebuilt, cursor, size);
+    }
+
+    private List<Long> olderThan(List<Long> postIds, Long cursor, int size) {
+        return postIds.stream()
+                .filter(postId -> cursor == null || postId < cursor)
+                .limit(size)
+                .toList();
+    }
+
+    // 게시물 정보는 한 번의 IN 쿼리로 조회, 조회되지 않은(삭제된) 게시물은 타임라인에서 정리
+    private List<PostsResDTO> hydrate(Long userId, List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostSummaryDTO> summaries = postRepository.findSummariesByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostSummaryDTO::id, Function.identity()));
+
+        List<Long> deletedIds = postIds.stream()
+                .filter(postId -> !summaries.containsKey(postId))
+                .toList();
+        feedRedisRepository.removeFromTimeline(userId, deletedIds);
+
+        // 좋아요 수는 목록 조회와 같이 실시간 값으로 덮어씀
+        Map<Long, Long> storedLikes = summaries.values().stream()
+                .collect(Collectors.toMap(PostSummaryDTO::id, PostSummaryDTO::likes));
+        Map<Long, Long> liveLikes = storedLikes.isEmpty() ? storedLikes : likeCounterRegistry.getActive().getLiveCounts(storedLikes);
+
+        return postIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .map(summary -> summary.toPostsResDTO(liveLikes.getOrDefault(summary.id(), summary.likes())))
+                .toList();
+    }
+}
@@ -2,7 +2,8 @@ package com.devita.domain.follow.controller;
 
 import com.devita.common.response.ApiResponse;
 import com.devita.domain.follow.dto.FollowCountDTO;
-import com.devita.domain.follow.dto.FollowResponseDTO;
+import com.devita.domain.follow.dto.FollowPageResDTO;
+import com.devita.domain.follow.dto.FollowRecommendationDTO;
 import com.devita.domain.follow.service.FollowService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -32,15 +34,17 @@ public class FollowController {
         return ApiResponse.success("성공");
     }
 
+    // 팔로잉 목록 페이지 조회 (첫 페이지는 cursor 없이 요청)
     @GetMapping("/followings/{userId}")
-    public ApiResponse<List<FollowResponseDTO>> getFollowings(@PathVariable Long userId) {
-        List<FollowResponseDTO> followings = followService.getFollowings(userId);
+    public ApiResponse<FollowPageResDTO> getFollowingPage(@PathVariable Long userId, @RequestParam(required = false) Long cursor, @RequestParam(defaultValue = "20") int size) {
+        FollowPageResDTO followings = followService.getFollowingPage(userId, cursor, size);
         return ApiResponse.success(followings);
     }
 
+    // 팔로워 목록 페이지 조회
     @GetMapping("/followers/{userId}")
-    public ApiResponse<List<FollowResponseDTO>> getFollowers(@PathVariable Long userId) {
-        List<FollowResponseDTO> followers = followService.getFollowers(userId);
+    public ApiResponse<FollowPageResDTO> getFollowerPage(@PathVariable Long userId, @RequestParam(required = false) Long cursor, @RequestParam(defaultValue = "20") int size) {
+        FollowPageResDTO followers = followService.getFollowerPage(userId, cursor, size);
         return ApiResponse.success(followers);
     }
 
@@ -50,6 +54,20 @@ public class FollowController {
         return ApiResponse.success(isFollowing);
     }
 
+    // 여러 사용자에 대한 팔로우 여부를 한 번에 확인 (targetUserIds=1,2,3 / 최대 100명)
+    @GetMapping("/check")
+    public ApiResponse<Map<Long, Boolean>> isFollowing(@AuthenticationPrincipal Long userId, @RequestParam List<Long> targetUserIds) {
+        Map<Long, Boolean> followings = followService.isFollowing(userId, targetUserIds);
+        return ApiResponse.success(followings);
+    }
+
+    // 알 수도 있는 사람 (팔로잉의 팔로잉을 함께 아는 사람 수 순으로 추천)
+    @GetMapping("/recommendations")
+    public ApiResponse<List<FollowRecommendationDTO>> getRecommendations(@AuthenticationPrincipal Long userId) {
+        List<FollowRecommendationDTO> recommendations = followService.getRecommendations(userId);
+        return ApiResponse.success(recommendations);
+    }
+
     @GetMapping("/count/{userId}")
     public ApiResponse<FollowCountDTO> getFollowCount(@PathVariable Long userId) {
         FollowCountDTO countDto = followService.getFollowCount(userId);
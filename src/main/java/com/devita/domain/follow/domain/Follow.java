@@ -8,6 +8,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+        // 팔로잉/팔로워 목록 keyset 조회 (follower_id = ? AND id < ? ORDER BY id DESC)
+        @Index(name = "idx_follow_follower_id_id", columnList = "follower_id, id"),
+        @Index(name = "idx_follow_following_id_id", columnList = "following_id, id")
+})
 @Getter
 @NoArgsConstructor
 public class Follow extends BaseEntity {
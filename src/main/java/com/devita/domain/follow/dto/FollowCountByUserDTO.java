@@ -0,0 +1,8 @@
+package com.devita.domain.follow.dto;
+
+// 사용자별 follow 테이블 집계 결과
+public record FollowCountByUserDTO(
+        Long userId,
+        Long count
+) {
+}
@@ -0,0 +1,10 @@
+package com.devita.domain.follow.dto;
+
+import java.util.List;
+
+// 팔로잉/팔로워 목록 (nextCursor 는 마지막 follow id, null 이면 마지막 페이지)
+public record FollowPageResDTO(
+        List<FollowResponseDTO> users,
+        Long nextCursor
+) {
+}
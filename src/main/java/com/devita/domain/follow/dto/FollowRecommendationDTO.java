@@ -0,0 +1,10 @@
+package com.devita.domain.follow.dto;
+
+// 알 수도 있는 사람 (mutualCount - 내가 팔로우하는 사람 중 이 사용자를 팔로우하는 사람 수)
+public record FollowRecommendationDTO(
+        Long userId,
+        String nickname,
+        String profileImage,
+        int mutualCount
+) {
+}
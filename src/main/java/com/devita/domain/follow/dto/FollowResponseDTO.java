@@ -1,7 +1,5 @@
 package com.devita.domain.follow.dto;
 
-import com.devita.domain.follow.domain.Follow;
-import com.devita.domain.user.domain.User;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -12,12 +10,11 @@ public class FollowResponseDTO {
     private String nickname;
     private String profileImage;
 
-    public static FollowResponseDTO from(Follow follow, boolean isFollowing) {
-        User user = isFollowing ? follow.getFollowing() : follow.getFollower();
+    public static FollowResponseDTO from(FollowUserDTO user) {
         return FollowResponseDTO.builder()
-                .userId(user.getId())
-                .nickname(user.getNickname())
-                .profileImage(user.getProfileImage())
+                .userId(user.userId())
+                .nickname(user.nickname())
+                .profileImage(user.profileImage())
                 .build();
     }
 }
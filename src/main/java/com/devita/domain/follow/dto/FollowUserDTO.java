@@ -0,0 +1,10 @@
+package com.devita.domain.follow.dto;
+
+// 팔로잉/팔로워 목록 조회용 프로젝션 - followId 는 다음 페이지 커서
+public record FollowUserDTO(
+        Long followId,
+        Long userId,
+        String nickname,
+        String profileImage
+) {
+}
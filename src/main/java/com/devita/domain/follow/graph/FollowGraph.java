@@ -0,0 +1,248 @@
+package com.devita.domain.follow.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+// 팔로우 그래프를 CSR 배열로 보관 (박싱된 컬렉션 없이 사용자당 int 배열 구간 하나)
+// 사용자 id 는 정렬된 userIds 의 index 로 바꿔서 저장하고, index 의 팔로잉은 followings[offsets[index] .. offsets[index + 1])
+public final class FollowGraph {
+
+    // fork/join 으로 나누는 최소 사용자 수
+    private static final int LEAF_SIZE = 512;
+
+    private final long[] userIds;
+    private final int[] offsets;
+    private final int[] followings;
+
+    private FollowGraph(long[] userIds, int[] offsets, int[] followings) {
+        this.userIds = userIds;
+        this.offsets = offsets;
+        this.followings = followings;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getUserCount() {
+        return userIds.length;
+    }
+
+    public int getEdgeCount() {
+        return followings.length;
+    }
+
+    // 사용자마다 팔로잉의 팔로잉 중 아직 팔로우하지 않은 사용자를 함께 아는 사람 수 순으로 limit 명 추천
+    // 팔로잉이 maxFanout 명을 넘는 사용자는 경유지에서 제외 (한 명이 계산량을 독점하지 않도록)
+    // 결과는 LEAF_SIZE 명 단위로 sink 에 전달하므로 sink 는 여러 스레드에서 호출될 수 있음
+    public void recommend(ForkJoinPool pool, int limit, int maxFanout, Consumer<List<Recommendation>> sink) {
+        ThreadLocal<Scratch> scratches = ThreadLocal.withInitial(() -> new Scratch(userIds.length, limit));
+        pool.invoke(new RecommendTask(0, userIds.length, limit, maxFanout, scratches, sink));
+    }
+
+    private void recommend(int user, int limit, int maxFanout, Scratch scratch, List<Recommendation> results) {
+        int from = offsets[user];
+        int to = offsets[user + 1];
+        if (from == to) {
+            return;
+        }
+
+        // 이미 팔로우한 사용자와 자기 자신 표시 (사용자마다 stamp 가 달라서 초기화할 필요 없음)
+        int stamp = user + 1;
+        scratch.seen[user] = stamp;
+        for (int i = from; i < to; i++) {
+            scratch.seen[followings[i]] = stamp;
+        }
+
+        int touched = 0;
+        for (int i = from; i < to; i++) {
+            int via = followings[i];
+            if (offsets[via + 1] - offsets[via] > maxFanout) {
+                continue;
+            }
+
+            for (int j = offsets[via]; j < offsets[via + 1]; j++) {
+                int candidate = followings[j];
+                if (scratch.seen[candidate] == stamp) {
+                    continue;
+                }
+                if (scratch.mutuals[candidate]++ == 0) {
+                    scratch.touched[touched++] = candidate;
+                }
+            }
+        }
+
+        int size = 0;
+        for (int i = 0; i < touched; i++) {
+            int candidate = scratch.touched[i];
+            size = offer(scratch, size, limit, candidate, scratch.mutuals[candidate]);
+            scratch.mutuals[candidate] = 0;
+        }
+
+        if (size > 0) {
+            long[] recommendedIds = new long[size];
+            for (int i = 0; i < size; i++) {
+                recommendedIds[i] = userIds[scratch.topUsers[i]];
+            }
+            results.add(new Recommendation(userIds[user], recommendedIds, Arrays.copyOf(scratch.topMutuals, size)));
+        }
+    }
+
+    // 함께 아는 사람 수 내림차순(같으면 index 오름차순)으로 정렬된 상위 limit 명에 삽입
+    private static int offer(Scratch scratch, int size, int limit, int candidate, int mutuals) {
+        if (size == limit && !ranksBefore(mutuals, candidate, scratch.topMutuals[size - 1], scratch.topUsers[size - 1])) {
+            return size;
+        }
+
+        int position = size == limit ? size - 1 : size;
+        while (position > 0 && ranksBefore(mutuals, candidate, scratch.topMutuals[position - 1], scratch.topUsers[position - 1])) {
+            scratch.topMutuals[position] = scratch.topMutuals[position - 1];
+            scratch.topUsers[position] = scratch.topUsers[position - 1];
+            position--;
+        }
+        scratch.topMutuals[position] = mutuals;
+        scratch.topUsers[position] = candidate;
+
+        return Math.min(size + 1, limit);
+    }
+
+    private static boolean ranksBefore(int mutuals, int user, int otherMutuals, int otherUser) {
+        return mutuals > otherMutuals || (mutuals == otherMutuals && user < otherUser);
+    }
+
+    // 한 사용자의 추천 결과 (userIds 와 mutualCounts 는 같은 순서)
+    public record Recommendation(long userId, long[] userIds, int[] mutualCounts) {
+    }
+
+    // 스레드마다 한 번만 할당하는 계산용 배열
+    private static final class Scratch {
+        private final int[] seen;
+        private final int[] mutuals;
+        private final int[] touched;
+        private final int[] topUsers;
+        private final int[] topMutuals;
+
+        private Scratch(int userCount, int limit) {
+            this.seen = new int[userCount];
+            this.mutuals = new int[userCount];
+            this.touched = new int[userCount];
+            this.topUsers = new int[limit];
+            this.topMutuals = new int[limit];
+        }
+    }
+
+    private final class RecommendTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int limit;
+        private final int maxFanout;
+        private final ThreadLocal<Scratch> scratches;
+        private final Consumer<List<Recommendation>> sink;
+
+        private RecommendTask(int from, int to, int limit, int maxFanout, ThreadLocal<Scratch> scratches, Consumer<List<Recommendation>> sink) {
+            this.from = from;
+            this.to = to;
+            this.limit = limit;
+            this.maxFanout = maxFanout;
+            this.scratches = scratches;
+            this.sink = sink;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RecommendTask(from, middle, limit, maxFanout, scratches, sink),
+                        new RecommendTask(middle, to, limit, maxFanout, scratches, sink));
+                return;
+            }
+
+            Scratch scratch = scratches.get();
+            List<Recommendation> results = new ArrayList<>();
+            for (int user = from; user < to; user++) {
+                recommend(user, limit, maxFanout, scratch, results);
+            }
+            if (!results.isEmpty()) {
+                sink.accept(results);
+            }
+        }
+    }
+
+    // 팔로우 관계를 원래 id 로 모은 뒤 한 번에 CSR 로 변환
+    public static final class Builder {
+        private long[] followerIds = new long[1024];
+        private long[] followingIds = new long[1024];
+        private int edgeCount;
+
+        private Builder() {
+        }
+
+        public Builder addEdge(long followerId, long followingId) {
+            if (followerId == followingId) {
+                return this;
+            }
+            if (edgeCount == followerIds.length) {
+                followerIds = Arrays.copyOf(followerIds, edgeCount * 2);
+                followingIds = Arrays.copyOf(followingIds, edgeCount * 2);
+            }
+            followerIds[edgeCount] = followerId;
+            followingIds[edgeCount] = followingId;
+            edgeCount++;
+            return this;
+        }
+
+        public FollowGraph build() {
+            // 팔로우 관계에 등장하는 사용자 id 를 정렬해서 index 로 사용
+            long[] ids = new long[edgeCount * 2];
+            System.arraycopy(followerIds, 0, ids, 0, edgeCount);
+            System.arraycopy(followingIds, 0, ids, edgeCount, edgeCount);
+            Arrays.sort(ids);
+            int userCount = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (i == 0 || ids[i] != ids[i - 1]) {
+                    ids[userCount++] = ids[i];
+                }
+            }
+            long[] userIds = Arrays.copyOf(ids, userCount);
+
+            // counting sort 로 팔로워별 구간 배치
+            int[] offsets = new int[userCount + 1];
+            for (int i = 0; i < edgeCount; i++) {
+                offsets[Arrays.binarySearch(userIds, followerIds[i]) + 1]++;
+            }
+            for (int i = 0; i < userCount; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+
+            int[] positions = Arrays.copyOf(offsets, userCount);
+            int[] followings = new int[edgeCount];
+            for (int i = 0; i < edgeCount; i++) {
+                int follower = Arrays.binarySearch(userIds, followerIds[i]);
+                followings[positions[follower]++] = Arrays.binarySearch(userIds, followingIds[i]);
+            }
+
+            // 구간마다 정렬하면서 중복 관계 제거
+            int write = 0;
+            for (int user = 0; user < userCount; user++) {
+                int from = offsets[user];
+                int to = offsets[user + 1];
+                Arrays.sort(followings, from, to);
+                offsets[user] = write;
+                int previous = -1;
+                for (int i = from; i < to; i++) {
+                    if (followings[i] != previous) {
+                        previous = followings[i];
+                        followings[write++] = previous;
+                    }
+                }
+            }
+            offsets[userCount] = write;
+
+            return new FollowGraph(userIds, offsets, write == edgeCount ? followings : Arrays.copyOf(followings, write));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.devita.domain.follow.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 추천 계산용 팔로우 관계 조회 (엔티티/DTO 를 만들지 않고 행마다 id 만 전달)
+@Repository
+@RequiredArgsConstructor
+public class FollowJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @FunctionalInterface
+    public interface EdgeConsumer {
+        void accept(long followerId, long followingId);
+    }
+
+    // follow 테이블 전체를 id 순으로 batchSize 건씩 읽음 (드라이버가 결과 전체를 메모리에 올리지 않도록 keyset 으로 나눔)
+    public long forEachEdge(int batchSize, EdgeConsumer consumer) {
+        long lastId = 0;
+        long count = 0;
+        while (true) {
+            long[] state = {lastId, 0};
+            jdbcTemplate.query("SELECT id, follower_id, following_id FROM follow WHERE id > ? ORDER BY id LIMIT ?",
+                    rs -> {
+                        state[0] = rs.getLong(1);
+                        state[1]++;
+                        consumer.accept(rs.getLong(2), rs.getLong(3));
+                    },
+                    lastId, batchSize);
+
+            lastId = state[0];
+            count += state[1];
+            if (state[1] < batchSize) {
+                return count;
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.devita.domain.follow.repository;
+
+import com.devita.domain.follow.graph.FollowGraph;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 팔로우 관계 Redis 저장소 (사용자 정보는 저장하지 않고 id만 보관)
+// follow:followings:{userId} - 사용자가 팔로우하는 사용자 id (팔로우 여부 확인용)
+// follow:followings_version:{userId} - 팔로우/언팔로우마다 증가하는 set 버전
+// follow:recommend:{userId} - 추천 사용자 ("userId:함께 아는 사람 수" 를 순위대로 쉼표로 연결)
+// 비어 있어도 키가 유지되도록 표시용 member "0" 을 둠 (키가 없으면 DB에서 다시 읽음)
+@Repository
+@RequiredArgsConstructor
+public class FollowRedisRepository {
+
+    private static final String FOLLOWINGS_KEY_PREFIX = "follow:followings:";
+    private static final String FOLLOWINGS_VERSION_KEY_PREFIX = "follow:followings_version:";
+    private static final String RECOMMEND_KEY_PREFIX = "follow:recommend:";
+    private static final String NO_VERSION = "0";
+    private static final String PLACEHOLDER = "0";
+    private static final String ADD = "add";
+    private static final String REMOVE = "remove";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<Long> followUpdateScript;
+    private final RedisScript<Long> followRebuildScript;
+
+    @Value("${follow.cache.ttl-hours:24}")
+    private long ttlHours;
+
+    // 추천 계산 주기보다 길게 유지 (계산이 한 번 실패해도 이전 결과를 사용)
+    @Value("${follow.recommend.ttl-hours:48}")
+    private long recommendTtlHours;
+
+    // 사용자가 targetIds 를 팔로우하는지 SMISMEMBER 한 번으로 확인 (targetIds 순서대로), set 이 없으면 null
+    public List<Boolean> isFollowing(Long userId, List<Long> targetIds) {
+        byte[] rawKey = (FOLLOWINGS_KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8);
+        // 표시용 member 를 같이 확인해서 set 이 있는지 구분
+        byte[][] members = new byte[targetIds.size() + 1][];
+        members[0] = PLACEHOLDER.getBytes(StandardCharsets.UTF_8);
+        int index = 1;
+        for (Long targetId : targetIds) {
+            members[index++] = targetId.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        List<Boolean> result = redisTemplate.execute((RedisCallback<List<Boolean>>) connection ->
+                connection.setCommands().sMIsMember(rawKey, members));
+        if (result == null || !Boolean.TRUE.equals(result.get(0))) {
+            return null;
+        }
+
+        return result.subList(1, result.size());
+    }
+
+    // set 을 다시 만들기 전에 DB보다 먼저 읽어둘 버전
+    public String getFollowingsVersion(Long userId) {
+        return version(FOLLOWINGS_VERSION_KEY_PREFIX + userId);
+    }
+
+    // 버전이 그대로일 때만 저장 (DB를 읽는 사이 팔로우/언팔로우가 반영되었으면 오래된 목록을 저장하지 않음)
+    public void saveFollowingIds(Long userId, Collection<Long> followingIds, String version) {
+        save(FOLLOWINGS_KEY_PREFIX + userId, FOLLOWINGS_VERSION_KEY_PREFIX + userId, followingIds, version);
+    }
+
+    // 팔로우 - 팔로잉 set 에 id 하나만 추가
+    public void addFollow(Long userId, Long targetUserId) {
+        update(userId, targetUserId, ADD);
+    }
+
+    // 언팔로우 - 팔로잉 set 에서 id 하나만 제거
+    public void removeFollow(Long userId, Long targetUserId) {
+        update(userId, targetUserId, REMOVE);
+    }
+
+    // 추천 사용자 id 와 함께 아는 사람 수 (순위 순), 없으면 빈 map
+    public Map<Long, Integer> getRecommendations(Long userId) {
+        String value = redisTemplate.opsForValue().get(RECOMMEND_KEY_PREFIX + userId);
+        Map<Long, Integer> recommendations = new LinkedHashMap<>();
+        if (value == null || value.isEmpty()) {
+            return recommendations;
+        }
+
+        for (String entry : value.split(",")) {
+            int separator = entry.indexOf(':');
+            recommendations.put(Long.parseLong(entry.substring(0, separator)), Integer.parseInt(entry.substring(separator + 1)));
+        }
+        return recommendations;
+    }
+
+    // 추천 결과를 사용자마다 키 하나로 저장 (파이프라인 한 번)
+    public void saveRecommendations(List<FollowGraph.Recommendation> recommendations) {
+        long ttlSeconds = Duration.ofHours(recommendTtlHours).toSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (FollowGraph.Recommendation recommendation : recommendations) {
+                StringBuilder value = new StringBuilder();
+                for (int i = 0; i < recommendation.userIds().length; i++) {
+                    if (i > 0) {
+                        value.append(',');
+                    }
+                    value.append(recommendation.userIds()[i]).append(':').append(recommendation.mutualCounts()[i]);
+                }
+
+                connection.stringCommands().setEx((RECOMMEND_KEY_PREFIX + recommendation.userId()).getBytes(StandardCharsets.UTF_8),
+                        ttlSeconds, value.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+    }
+
+    private void update(Long userId, Long targetUserId, String action) {
+        redisTemplate.execute(
+                followUpdateScript,
+                List.of(FOLLOWINGS_KEY_PREFIX + userId, FOLLOWINGS_VERSION_KEY_PREFIX + userId),
+                action, targetUserId.toString(), String.valueOf(Duration.ofHours(ttlHours).toSeconds())
+        );
+    }
+
+    private String version(String versionKey) {
+        String version = redisTemplate.opsForValue().get(versionKey);
+        return version == null ? NO_VERSION : version;
+    }
+
+    private void save(String key, String versionKey, Collection<Long> userIds, String version) {
+        List<String> args = new ArrayList<>(userIds.size() + 3);
+        args.add(version);
+        args.add(String.valueOf(Duration.ofHours(ttlHours).toSeconds()));
+        args.add(PLACEHOLDER);
+        userIds.forEach(userId -> args.add(userId.toString()));
+
+        redisTemplate.execute(followRebuildScript, List.of(key, versionKey), args.toArray());
+    }
+}
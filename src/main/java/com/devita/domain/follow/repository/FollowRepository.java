@@ -1,16 +1,18 @@
 package com.devita.domain.follow.repository;
 
 import com.devita.domain.follow.domain.Follow;
+import com.devita.domain.follow.dto.FollowCountByUserDTO;
+import com.devita.domain.follow.dto.FollowUserDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
-    List<Follow> findByFollowerId(Long followerId);
-
-    List<Follow> findByFollowingId(Long followingId);
-
     Optional<Follow> findByFollowerIdAndFollowingId(Long followId, Long followingId);
 
     boolean existsByFollowerIdAndFollowingId(Long followerId, Long followingId);
@@ -18,4 +20,36 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     long countByFollowerId(Long followerId);
 
     long countByFollowingId(Long followingId);
+
+    // 사용자가 팔로우하는 사용자 id 목록
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId")
+    List<Long> findFollowingIds(@Param("userId") Long userId);
+
+    // 사용자가 팔로우하는 사용자 목록 - 최근 팔로우 순 keyset 조회, 사용자 정보는 join 으로 같이 읽음
+    @Query("SELECT new com.devita.domain.follow.dto.FollowUserDTO(f.id, u.id, u.nickname, u.profileImage) " +
+            "FROM Follow f JOIN f.following u WHERE f.follower.id = :userId AND f.id < :cursor ORDER BY f.id DESC")
+    List<FollowUserDTO> findFollowingPage(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 사용자를 팔로우하는 사용자 목록
+    @Query("SELECT new com.devita.domain.follow.dto.FollowUserDTO(f.id, u.id, u.nickname, u.profileImage) " +
+            "FROM Follow f JOIN f.follower u WHERE f.following.id = :userId AND f.id < :cursor ORDER BY f.id DESC")
+    List<FollowUserDTO> findFollowerPage(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 사용자별 팔로잉 수 (정합성 검사용, 팔로우가 없는 사용자는 결과에 없음)
+    @Query("SELECT new com.devita.domain.follow.dto.FollowCountByUserDTO(f.follower.id, COUNT(f)) " +
+            "FROM Follow f WHERE f.follower.id IN :userIds GROUP BY f.follower.id")
+    List<FollowCountByUserDTO> countFollowingsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 사용자별 팔로워 수
+    @Query("SELECT new com.devita.domain.follow.dto.FollowCountByUserDTO(f.following.id, COUNT(f)) " +
+            "FROM Follow f WHERE f.following.id IN :userIds GROUP BY f.following.id")
+    List<FollowCountByUserDTO> countFollowersByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 사용자를 팔로우하는 사용자 id 목록
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.following.id = :userId")
+    List<Long> findFollowerIds(@Param("userId") Long userId);
+
+    // targetIds 중 사용자가 팔로우하는 사용자 id 목록
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId AND f.following.id IN :targetIds")
+    List<Long> findFollowingIdsIn(@Param("userId") Long userId, @Param("targetIds") Collection<Long> targetIds);
 }
@@ -1,18 +1,36 @@
 package com.devita.domain.follow.service;
 
 import com.devita.common.exception.ErrorCode;
+import com.devita.common.exception.IllegalArgumentException;
 import com.devita.common.exception.ResourceNotFoundException;
+import com.devita.common.util.PageSizes;
+import com.devita.common.util.TransactionCallbacks;
+import com.devita.domain.feed.service.FeedService;
 import com.devita.domain.follow.domain.Follow;
 import com.devita.domain.follow.dto.FollowCountDTO;
+import com.devita.domain.follow.dto.FollowPageResDTO;
+import com.devita.domain.follow.dto.FollowRecommendationDTO;
 import com.devita.domain.follow.dto.FollowResponseDTO;
+import com.devita.domain.follow.dto.FollowUserDTO;
+import com.devita.domain.follow.repository.FollowRedisRepository;
 import com.devita.domain.follow.repository.FollowRepository;
 import com.devita.domain.user.domain.User;
+import com.devita.domain.user.dto.UserFollowCountDTO;
+import com.devita.domain.user.dto.UserSummaryDTO;
 import com.devita.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,7 +39,11 @@ public class FollowService {
 
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
-    private final FollowCacheService followCacheService;
+    private final FollowRedisRepository followRedisRepository;
+    private final FeedService feedService;
+
+    private static final int MAX_FOLLOW_PAGE_SIZE = 100;
+    private static final int MAX_FOLLOW_CHECK_SIZE = 100;
 
     @Transactional
     public void follow(Long userId, Long targetUserId) {
@@ -43,10 +65,15 @@ public class FollowService {
                 .following(following)
                 .build();
 
+        // follow 행을 넣기 전에 양쪽 사용자 행을 먼저 잠가서 외래 키 검사와 엇갈린 데드락이 생기지 않도록 함
+        updateFollowCounts(userId, targetUserId, 1);
         followRepository.save(follow);
 
-        // 팔로우 상태가 변경되었으므로 캐시 갱신
-        followCacheService.deleteFollowCache(userId);
+        // 커밋된 뒤에 팔로잉 id set 에 한 건만 반영 (목록 전체를 다시 읽지 않음)
+        TransactionCallbacks.afterCommit(() -> {
+            followRedisRepository.addFollow(userId, targetUserId);
+            feedService.onFollow(userId, targetUserId);
+        });
     }
 
     @Transactional
@@ -54,63 +81,126 @@ public class FollowService {
         Follow follow = followRepository.findByFollowerIdAndFollowingId(userId, targetUserId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.FOLLOW_NOT_FOUND));
 
+        updateFollowCounts(userId, targetUserId, -1);
         followRepository.delete(follow);
 
-        // 언팔로우 상태가 변경되었으므로 캐시 갱신
-        followCacheService.deleteFollowCache(userId);
+        TransactionCallbacks.afterCommit(() -> {
+            followRedisRepository.removeFollow(userId, targetUserId);
+            feedService.onUnfollow(userId, targetUserId);
+        });
     }
 
-    public List<FollowResponseDTO> getFollowings_NoCache(Long userId) {
-        List<Follow> followings = followRepository.findByFollowerId(userId);
-        return followings.stream()
-                .map(follow -> FollowResponseDTO.from(follow, true))
-                .toList();
+    // 팔로잉 목록 페이지 (최근 팔로우 순, 첫 페이지는 cursor 없이 요청)
+    public FollowPageResDTO getFollowingPage(Long userId, Long cursor, int size) {
+        int pageSize = PageSizes.validate(size, MAX_FOLLOW_PAGE_SIZE);
+        return toFollowPageResDTO(followRepository.findFollowingPage(userId, toCursor(cursor), PageRequest.of(0, pageSize)), pageSize);
+    }
+
+    // 팔로워 목록 페이지
+    public FollowPageResDTO getFollowerPage(Long userId, Long cursor, int size) {
+        int pageSize = PageSizes.validate(size, MAX_FOLLOW_PAGE_SIZE);
+        return toFollowPageResDTO(followRepository.findFollowerPage(userId, toCursor(cursor), PageRequest.of(0, pageSize)), pageSize);
     }
 
-    public List<FollowResponseDTO> getFollowers_NoCache(Long userId) {
-        List<Follow> followers = followRepository.findByFollowingId(userId);
-        return followers.stream()
-                .map(follow -> FollowResponseDTO.from(follow, false))
+    private Long toCursor(Long cursor) {
+        return cursor == null ? Long.MAX_VALUE : cursor;
+    }
+
+    private FollowPageResDTO toFollowPageResDTO(List<FollowUserDTO> users, int pageSize) {
+        List<FollowResponseDTO> followResponseDTOs = users.stream()
+                .map(FollowResponseDTO::from)
                 .toList();
+
+        // 요청한 크기만큼 채워졌을 때만 다음 커서 발급
+        Long nextCursor = users.size() == pageSize ? users.get(users.size() - 1).followId() : null;
+
+        return new FollowPageResDTO(followResponseDTOs, nextCursor);
     }
 
+    public boolean isFollowing(Long userId, Long targetUserId) {
+        return followRepository.existsByFollowerIdAndFollowingId(userId, targetUserId);
+    }
 
-    public List<FollowResponseDTO> getFollowings(Long userId) {
-        // 먼저 캐시에서 팔로잉 목록 가져오기
-        List<FollowResponseDTO> followings = followCacheService.getFollowingsFromCache(userId);
-        if (followings == null) {
-            // 캐시가 비어 있으면 DB에서 가져와 캐시에 저장
-            List<Follow> followList = followRepository.findByFollowingId(userId);
-            followings = followList.stream()
-                    .map(follow -> FollowResponseDTO.from(follow, true))
-                    .toList();
-            followCacheService.cacheFollowings(userId, followings);
+    // 여러 사용자에 대한 팔로우 여부 (캐시된 팔로잉 set 에 SMISMEMBER 한 번, set 이 없으면 DB에서 팔로잉 id 를 읽어서 다시 만듦)
+    public Map<Long, Boolean> isFollowing(Long userId, Collection<Long> targetUserIds) {
+        List<Long> targetIds = targetUserIds.stream().distinct().toList();
+        if (targetIds.size() > MAX_FOLLOW_CHECK_SIZE) {
+            throw new IllegalArgumentException(ErrorCode.TOO_MANY_FOLLOW_TARGETS);
         }
 
-        return followings;
+        return followingStates(userId, targetIds);
     }
 
-    public List<FollowResponseDTO> getFollowers(Long userId) {
-        // 먼저 캐시에서 팔로워 목록을 가져옵니다.
-        List<FollowResponseDTO> followers = followCacheService.getFollowersFromCache(userId);
-        if (followers == null) {
-            // 캐시가 비어 있으면 DB에서 가져와 캐시에 저장합니다.
-            List<Follow> followList = followRepository.findByFollowerId(userId);
-            followers = followList.stream()
-                    .map(follow -> FollowResponseDTO.from(follow, false))
-                    .toList();
-            followCacheService.cacheFollowers(userId, followers);
+    // 알 수도 있는 사람 - FollowRecommendationJob 이 계산해 둔 결과를 키 하나로 읽고 사용자 정보는 IN 쿼리 한 번으로 조회
+    // 계산 이후 팔로우한 사용자는 팔로잉 set 에 SMISMEMBER 한 번으로 확인해서 제외
+    public List<FollowRecommendationDTO> getRecommendations(Long userId) {
+        Map<Long, Integer> recommendations = followRedisRepository.getRecommendations(userId);
+        if (recommendations.isEmpty()) {
+            return List.of();
         }
-        return followers;
-    }
 
-    public boolean isFollowing(Long userId, Long targetUserId) {
-        return followRepository.existsByFollowerIdAndFollowingId(userId, targetUserId);
+        // 한 번에 확인하는 수를 제한 (순위가 높은 사용자부터)
+        List<Long> candidateIds = recommendations.keySet().stream().limit(MAX_FOLLOW_CHECK_SIZE).toList();
+        Map<Long, Boolean> followings = followingStates(userId, candidateIds);
+        List<Long> recommendIds = candidateIds.stream()
+                .filter(candidateId -> !followings.get(candidateId))
+                .toList();
+        if (recommendIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, UserSummaryDTO> users = userRepository.findSummariesByIdIn(recommendIds).stream()
+                .collect(Collectors.toMap(UserSummaryDTO::userId, Function.identity()));
+
+        // 계산 이후 탈퇴한 사용자는 제외
+        return recommendIds.stream()
+                .filter(users::containsKey)
+                .map(recommendId -> {
+                    UserSummaryDTO user = users.get(recommendId);
+                    return new FollowRecommendationDTO(user.userId(), user.nickname(), user.profileImage(), recommendations.get(recommendId));
+                })
+                .toList();
     }
 
+    // 사용자에 저장된 값을 읽음 (follow 테이블 COUNT 없음)
     public FollowCountDTO getFollowCount(Long userId) {
-        long followingCount = followRepository.countByFollowerId(userId);
-        long followerCount = followRepository.countByFollowingId((userId));
-        return new FollowCountDTO(followingCount, followerCount);
+        UserFollowCountDTO counts = userRepository.findFollowCount(userId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+        return new FollowCountDTO(counts.followingCount(), counts.followerCount());
+    }
+
+    // 팔로우 관계와 같은 트랜잭션에서 양쪽 사용자의 수를 원자적으로 증감 (데드락을 피하기 위해 id 순으로 갱신)
+    private void updateFollowCounts(Long userId, Long targetUserId, long delta) {
+        if (userId < targetUserId) {
+            userRepository.addFollowingCount(userId, delta);
+            userRepository.addFollowerCount(targetUserId, delta);
+        } else {
+            userRepository.addFollowerCount(targetUserId, delta);
+            userRepository.addFollowingCount(userId, delta);
+        }
+    }
+
+    // targetIds 각각의 팔로우 여부 (targetIds 순서대로)
+    private Map<Long, Boolean> followingStates(Long userId, List<Long> targetIds) {
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        if (targetIds.isEmpty()) {
+            return result;
+        }
+
+        List<Boolean> followings = followRedisRepository.isFollowing(userId, targetIds);
+        if (followings != null) {
+            for (int i = 0; i < targetIds.size(); i++) {
+                result.put(targetIds.get(i), followings.get(i));
+            }
+            return result;
+        }
+
+        // DB보다 버전을 먼저 읽어서, 읽는 사이 커밋된 팔로우/언팔로우가 빠진 목록은 저장되지 않도록 함
+        String version = followRedisRepository.getFollowingsVersion(userId);
+        Set<Long> followingIds = new HashSet<>(followRepository.findFollowingIds(userId));
+        followRedisRepository.saveFollowingIds(userId, followingIds, version);
+
+        targetIds.forEach(targetId -> result.put(targetId, followingIds.contains(targetId)));
+        return result;
     }
 }
@@ -1,13 +1,19 @@
 package com.devita.domain.post.controller;
 
 import com.devita.common.response.ApiResponse;
+import com.devita.domain.post.dto.PostCursorResDTO;
+import com.devita.domain.post.dto.PostLikersResDTO;
 import com.devita.domain.post.dto.PostReqDTO;
 import com.devita.domain.post.dto.PostResDTO;
+import com.devita.domain.post.dto.PostSliceResDTO;
 import com.devita.domain.post.dto.PostsResDTO;
+import com.devita.domain.post.service.PostCountStreamService;
 import com.devita.domain.post.service.PostService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -17,6 +23,7 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final PostCountStreamService postCountStreamService;
 
     // 게시물 생성
     @PostMapping("/post")
@@ -50,6 +57,30 @@ public class PostController {
         return ApiResponse.success(posts);
     }
 
+    // 게시물 커서 기반 조회 (첫 페이지는 cursor 값을 비워서 요청)
+    @GetMapping(value = "/posts", params = "cursor")
+    public ApiResponse<PostCursorResDTO> getPostsByCursor(@RequestParam String cursor, @RequestParam(defaultValue = "10") int size) {
+        PostCursorResDTO posts = postService.getPostsByCursor(cursor, size);
+
+        return ApiResponse.success(posts);
+    }
+
+    // 인기 게시물 조회
+    @GetMapping("/posts/trending")
+    public ApiResponse<List<PostsResDTO>> getTrendingPosts(@RequestParam(defaultValue = "10") int size) {
+        List<PostsResDTO> posts = postService.getTrendingPosts(size);
+
+        return ApiResponse.success(posts);
+    }
+
+    // 게시물 검색
+    @GetMapping("/posts/search")
+    public ApiResponse<List<PostsResDTO>> searchPosts(@RequestParam String q, @RequestParam(defaultValue = "10") int size) {
+        List<PostsResDTO> posts = postService.searchPosts(q, size);
+
+        return ApiResponse.success(posts);
+    }
+
     // 게시물 상세 조회
     @GetMapping("/post/{postId}")
     public ApiResponse<PostResDTO> getPost(@AuthenticationPrincipal Long userId, @PathVariable Long postId) {
@@ -58,6 +89,20 @@ public class PostController {
         return ApiResponse.success(postResDTO);
     }
 
+    // 좋아요한 사용자 목록 (첫 페이지는 cursor 없이 요청)
+    @GetMapping("/post/{postId}/likers")
+    public ApiResponse<PostLikersResDTO> getLikers(@PathVariable Long postId, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+        PostLikersResDTO likers = postService.getLikers(postId, cursor, size);
+
+        return ApiResponse.success(likers);
+    }
+
+    // 게시물 좋아요/조회수 실시간 스트림 (상세 조회 polling 대신 사용)
+    @GetMapping(value = "/post/{postId}/counts/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPostCounts(@PathVariable Long postId) {
+        return postCountStreamService.subscribe(postId);
+    }
+
     // 작성한 게시물 조회
     @GetMapping("/posts/my")
     public ApiResponse<List<PostsResDTO>> getMyPosts(@AuthenticationPrincipal Long userId, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "5") int size) {
@@ -66,26 +111,27 @@ public class PostController {
         return ApiResponse.success(posts);
     }
 
-    // 좋아요 증가 (Redis)
-    @PostMapping("/post/{postId}/like/redis")
-    public ApiResponse<Long> increaseLikeRedis(@AuthenticationPrincipal Long userId, @PathVariable Long postId) {
-        Long likes = postService.increaseLikeRedis(userId, postId);
+    // 작성한 게시물 조회 (COUNT 없이 다음 페이지 여부만 반환)
+    @GetMapping("/posts/my/slice")
+    public ApiResponse<PostSliceResDTO> getMyPostSlice(@AuthenticationPrincipal Long userId, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "5") int size) {
+        PostSliceResDTO posts = postService.getMyPostSlice(userId, page, size);
 
-        return ApiResponse.success(likes);
+        return ApiResponse.success(posts);
     }
 
-    // 좋아요 증가 (비관적 락)
-    @PostMapping("/post/{postId}/like/pessimistic-lock")
-    public ApiResponse<Long> increaseLikePessimistic(@AuthenticationPrincipal Long userId, @PathVariable Long postId) {
-        Long likes = postService.increaseLikePessimistic(userId, postId);
+    // 좋아요
+    @PostMapping("/post/{postId}/like")
+    public ApiResponse<Long> increaseLike(@AuthenticationPrincipal Long userId, @PathVariable Long postId) {
+        Long likes = postService.increaseLike(userId, postId);
 
         return ApiResponse.success(likes);
     }
 
+    // 좋아요 취소
+    @DeleteMapping("/post/{postId}/like")
+    public ApiResponse<Long> decreaseLike(@AuthenticationPrincipal Long userId, @PathVariable Long postId) {
+        Long likes = postService.decreaseLike(userId, postId);
 
-    @PostMapping("/post/{postId}/like/optimistic-lock")
-    public ApiResponse<Long> increaseLikeOptimistic(@AuthenticationPrincipal Long userId, @PathVariable Long postId) {
-        Long likes = postService.increaseLikeOptimistic(userId, postId);
         return ApiResponse.success(likes);
     }
 }
@@ -6,9 +6,16 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_post_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_post_writer_created_at_id", columnList = "writer_id, created_at, id"),
+        @Index(name = "idx_post_updated_at", columnList = "updated_at")
+})
 @Getter
 @NoArgsConstructor
 public class Post extends BaseEntity {
+    public static final int EXCERPT_LENGTH = 200;
+
     @Id
     @Setter
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -24,12 +31,20 @@ public class Post extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    // 목록 조회용 요약 (description 앞부분)
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
     @Column(columnDefinition = "bigint default 0")
     private Long likes = 0L;
 
     @Column(columnDefinition = "bigint default 0")
     private Long views = 0L;
 
+    // 댓글 수 (PostCommentCounter 가 주기적으로 반영)
+    @Column(columnDefinition = "bigint default 0")
+    private Long commentCount = 0L;
+
     @Version
     private Integer version;
 
@@ -38,17 +53,26 @@ public class Post extends BaseEntity {
         this.writer = writer;
         this.title = title;
         this.description = description;
+        this.excerpt = toExcerpt(description);
     }
 
     public void updatePost(String title, String description) {
         this.title = title;
         this.description = description;
+        this.excerpt = toExcerpt(description);
     }
 
-    public void increaseView() {
-        views += 1;
-    }
     public void updateLikes(Long likes) {
         this.likes = likes;
     }
-}
\ No newline at end of file
+
+    private static String toExcerpt(String description) {
+        if (description == null || description.length() <= EXCERPT_LENGTH) {
+            return description;
+        }
+
+        // 서로게이트 쌍이 잘리지 않도록 처리
+        int end = Character.isHighSurrogate(description.charAt(EXCERPT_LENGTH - 1)) ? EXCERPT_LENGTH - 1 : EXCERPT_LENGTH;
+        return description.substring(0, end);
+    }
+}
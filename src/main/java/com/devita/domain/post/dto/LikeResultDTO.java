@@ -0,0 +1,9 @@
+package com.devita.domain.post.dto;
+
+// 좋아요/좋아요 취소 처리 결과
+// changed: 이번 요청으로 좋아요 수가 바뀌었는지 (이미 좋아요한 사용자의 좋아요, 좋아요하지 않은 사용자의 취소는 false)
+public record LikeResultDTO(
+        Long likes,
+        boolean changed
+) {
+}
@@ -0,0 +1,9 @@
+package com.devita.domain.post.dto;
+
+// 게시물 좋아요/조회수 실시간 스트림 이벤트
+public record PostCountsDTO(
+        Long postId,
+        Long likes,
+        Long views
+) {
+}
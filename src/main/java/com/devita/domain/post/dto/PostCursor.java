@@ -0,0 +1,36 @@
+package com.devita.domain.post.dto;
+
+import com.devita.common.exception.ErrorCode;
+import com.devita.common.exception.IllegalArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 게시물 목록 커서 (createdAt, id) - 클라이언트에는 Base64 문자열로만 노출
+public record PostCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (java.lang.IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
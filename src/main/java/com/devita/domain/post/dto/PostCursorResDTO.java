@@ -0,0 +1,9 @@
+package com.devita.domain.post.dto;
+
+import java.util.List;
+
+public record PostCursorResDTO(
+        List<PostsResDTO> posts,
+        String nextCursor
+) {
+}
@@ -0,0 +1,39 @@
+package com.devita.domain.post.dto;
+
+import com.devita.domain.post.domain.Post;
+
+// 게시물 상세 캐시 항목 (좋아요/조회수는 응답 시점에 실시간 값으로 덮어씀)
+public record PostDetailDTO(
+        Long id,
+        Long writerId,
+        String writer,
+        String title,
+        String description,
+        Long likes,
+        Long views,
+        Long commentCount
+) {
+    // 댓글 수 추가 전에 캐시된 항목은 0으로 읽음
+    public PostDetailDTO {
+        if (commentCount == null) {
+            commentCount = 0L;
+        }
+    }
+
+    public static PostDetailDTO from(Post post) {
+        return new PostDetailDTO(
+                post.getId(),
+                post.getWriter().getId(),
+                post.getWriter().getNickname(),
+                post.getTitle(),
+                post.getDescription(),
+                post.getLikes(),
+                post.getViews(),
+                post.getCommentCount()
+        );
+    }
+
+    public PostResDTO toPostResDTO(Long likes, Long views, Long commentCount) {
+        return new PostResDTO(id, writer, title, description, likes, views, commentCount);
+    }
+}
@@ -0,0 +1,12 @@
+package com.devita.domain.post.dto;
+
+import com.devita.domain.user.dto.UserSummaryDTO;
+
+import java.util.List;
+
+// 좋아요한 사용자 목록 (nextCursor 가 null 이면 마지막 페이지)
+public record PostLikersResDTO(
+        List<UserSummaryDTO> likers,
+        String nextCursor
+) {
+}
@@ -9,6 +9,7 @@ public record PostResDTO(
         String title,
         String description,
         Long likes,
-        Long views
+        Long views,
+        Long commentCount
 ) {
 }
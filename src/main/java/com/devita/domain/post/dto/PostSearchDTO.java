@@ -0,0 +1,12 @@
+package com.devita.domain.post.dto;
+
+import java.time.LocalDateTime;
+
+// 검색 색인용 프로젝션
+public record PostSearchDTO(
+        Long id,
+        String title,
+        String description,
+        LocalDateTime updatedAt
+) {
+}
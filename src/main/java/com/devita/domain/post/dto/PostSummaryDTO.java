@@ -0,0 +1,23 @@
+package com.devita.domain.post.dto;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 프로젝션 - description(TEXT) 컬럼은 조회하지 않음
+public record PostSummaryDTO(
+        Long id,
+        String title,
+        String excerpt,
+        Long likes,
+        Long views,
+        Long commentCount,
+        LocalDateTime createdAt
+) {
+    public PostsResDTO toPostsResDTO() {
+        return new PostsResDTO(id, title, excerpt, likes, views, commentCount);
+    }
+
+    // 좋아요 수를 실시간 값으로 바꿔서 응답 생성
+    public PostsResDTO toPostsResDTO(Long liveLikes) {
+        return new PostsResDTO(id, title, excerpt, liveLikes, views, commentCount);
+    }
+}
@@ -8,6 +8,7 @@ public record PostsResDTO(
         String title,
         String description,
         Long likes,
-        Long views
+        Long views,
+        Long commentCount
 ) {
 }
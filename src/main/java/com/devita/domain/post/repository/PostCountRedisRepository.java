@@ -0,0 +1,75 @@
+package com.devita.domain.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 게시물 좋아요/조회수 변경 pub/sub 저장소
+@Repository
+@RequiredArgsConstructor
+public class PostCountRedisRepository {
+
+    public static final String CHANNEL_PREFIX = "post:counts:";
+    // 스트림을 보고 있는 노드가 있는 게시물 (member = postId, score = 만료 시각)
+    private static final String WATCHED_KEY = "post:counts_watched";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public static ChannelTopic topic(Long postId) {
+        return new ChannelTopic(CHANNEL_PREFIX + postId);
+    }
+
+    // 게시물별 변경 메시지를 파이프라인 한 번으로 발행
+    public void publish(Map<Long, String> messages) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            messages.forEach((postId, message) -> connection.publish(
+                    (CHANNEL_PREFIX + postId).getBytes(StandardCharsets.UTF_8),
+                    message.getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+    }
+
+    // 스트림을 보고 있는 노드가 있는 게시물만 골라냄 (ZMSCORE 한 번)
+    public Set<Long> findWatched(List<Long> postIds) {
+        Set<Long> watched = new HashSet<>();
+        if (postIds.isEmpty()) {
+            return watched;
+        }
+
+        List<Double> scores = redisTemplate.opsForZSet().score(WATCHED_KEY, postIds.stream().map(String::valueOf).toArray());
+        long now = System.currentTimeMillis();
+        for (int i = 0; scores != null && i < postIds.size(); i++) {
+            Double expiresAt = scores.get(i);
+            if (expiresAt != null && expiresAt > now) {
+                watched.add(postIds.get(i));
+            }
+        }
+
+        return watched;
+    }
+
+    // 보고 있는 게시물의 만료 시각을 연장하고, 만료된 게시물은 정리
+    public void watch(Collection<Long> postIds, Duration ttl) {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(WATCHED_KEY, Double.NEGATIVE_INFINITY, now);
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.opsForZSet().add(WATCHED_KEY, postIds.stream()
+                .map(postId -> ZSetOperations.TypedTuple.of(postId.toString(), (double) (now + ttl.toMillis())))
+                .collect(Collectors.toSet()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.devita.domain.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+// 엔티티를 로딩하지 않는 카운터 컬럼 일괄 갱신 (@Version 증가 없음)
+@Repository
+@RequiredArgsConstructor
+public class PostJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 조회수 증감분 일괄 반영
+    public void addViews(Map<Long, Long> deltas) {
+        jdbcTemplate.batchUpdate("UPDATE post SET views = views + ? WHERE id = ?", toBatchArgs(deltas));
+    }
+
+    // 좋아요 증감분 일괄 반영
+    public void addLikes(Map<Long, Long> deltas) {
+        jdbcTemplate.batchUpdate("UPDATE post SET likes = likes + ? WHERE id = ?", toBatchArgs(deltas));
+    }
+
+    // 댓글 수 증감분 일괄 반영
+    public void addCommentCounts(Map<Long, Long> deltas) {
+        jdbcTemplate.batchUpdate("UPDATE post SET comment_count = comment_count + ? WHERE id = ?", toBatchArgs(deltas));
+    }
+
+    // 좋아요 수 일괄 반영, 실제로 갱신된 행 수 반환 (삭제된 게시물은 0건으로 건너뜀)
+    public int updateLikes(Map<Long, Long> likes) {
+        int[] results = jdbcTemplate.batchUpdate("UPDATE post SET likes = ? WHERE id = ?", toBatchArgs(likes));
+
+        return Arrays.stream(results)
+                .map(result -> result == Statement.SUCCESS_NO_INFO ? 1 : result)
+                .sum();
+    }
+
+    // 노드 간 데드락을 피하기 위해 id 순으로 정렬
+    private List<Object[]> toBatchArgs(Map<Long, Long> values) {
+        return values.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+    }
+}
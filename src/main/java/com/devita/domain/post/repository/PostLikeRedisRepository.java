@@ -0,0 +1,578 @@
+package com.devita.domain.post.repository;
+
+import com.devita.domain.post.dto.LikeResultDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 게시물 좋아요 Redis 저장소
+@Repository
+@RequiredArgsConstructor
+public class PostLikeRedisRepository {
+
+    public static final String LIKE_KEY_PREFIX = "post:like:";
+    public static final String LIKE_COUNT_KEY_PREFIX = "post:like_count:";
+    public static final String LIKE_DIRTY_KEY_PREFIX = "post:like_dirty:";
+    // DB에 반영 중인 게시물 (반영이 끝나면 삭제, 실패하거나 종료되면 LIKE_DIRTY_KEY_PREFIX 로 되돌림)
+    public static final String LIKE_SYNCING_KEY_PREFIX = "post:like_syncing:";
+    // 노드별 좋아요 카운터 상태 (crdt 전략)
+    public static final String LIKE_CRDT_KEY_PREFIX = "post:like_crdt:";
+    // 샤드 모드 게시물의 샤드 배치 (field = postId), 두 키는 같은 hash tag 라서 스크립트 하나로 함께 갱신
+    public static final String LIKE_SHARDS_KEY = "{post:like_shards}";
+    public static final String LIKE_SHARDS_MIGRATING_KEY = "{post:like_shards}:migrating";
+
+    private static final long SEED_REQUIRED = -1L;
+    private static final String LIKE = "like";
+    private static final String UNLIKE = "unlike";
+    // 샤드 스크립트에서 옮겨온 사용자만 반영할 때의 동작
+    private static final String CARRY = "";
+    private static final byte[] SCAN_COUNT = "COUNT".getBytes(StandardCharsets.UTF_8);
+    // 노드 상태 hash 에서 노드 하나가 사용하는 field ({node}:{name})
+    private static final List<String> NODE_STATE_FIELDS = List.of("p", "n", "rl", "ru", "seq", "at");
+
+    private final StringRedisTemplate redisTemplate;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> likeToggleScript;
+    private final RedisScript<Long> likeCrdtMergeScript;
+    private final RedisScript<Long> likeToggleShardedScript;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> likeShardEvictScript;
+    private final RedisScript<String> likeShardGrowScript;
+    private final RedisScript<Long> likeShardSettleScript;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> likeDirtyClaimScript;
+    private final RedisScript<Long> likeDirtyRestoreScript;
+
+    @Value("${like.sync.partitions:4}")
+    private int partitions;
+
+    // 좋아요 처리 후 좋아요 수와 변경 여부 반환, 좋아요 수 키가 없고 seed 도 없으면 null
+    public LikeResultDTO like(Long postId, Long userId, Long seed) {
+        return toggle(postId, userId, LIKE, seed);
+    }
+
+    // 좋아요 취소 처리 후 좋아요 수와 변경 여부 반환, 좋아요 수 키가 없고 seed 도 없으면 null
+    public LikeResultDTO unlike(Long postId, Long userId, Long seed) {
+        return toggle(postId, userId, UNLIKE, seed);
+    }
+
+    @SuppressWarnings("unchecked")
+    private LikeResultDTO toggle(Long postId, Long userId, String action, Long seed) {
+        List<Long> result = redisTemplate.execute(
+                likeToggleScript,
+                List.of(LIKE_KEY_PREFIX + postId, LIKE_COUNT_KEY_PREFIX + postId, dirtyKey(postId)),
+                userId.toString(), action, seed == null ? "" : seed.toString(), postId.toString(),
+                String.valueOf(System.currentTimeMillis())
+        );
+
+        if (result == null || result.get(0) == SEED_REQUIRED) {
+            return null;
+        }
+        return new LikeResultDTO(result.get(0), result.get(1) == 1L);
+    }
+
+    // 샤드 모드 좋아요 처리 후 반영된 증감분(1 또는 0) 반환
+    public long likeSharded(Long postId, Long userId, ShardLayout layout) {
+        return toggleSharded(postId, userId, LIKE, layout);
+    }
+
+    // 샤드 모드 좋아요 취소 처리 후 반영된 증감분(-1 또는 0) 반환
+    public long unlikeSharded(Long postId, Long userId, ShardLayout layout) {
+        return toggleSharded(postId, userId, UNLIKE, layout);
+    }
+
+    // userId 해시로 정한 샤드 하나에서만 처리 (사용자를 옮기는 중이면 이전 배치에서 먼저 꺼내서 함께 반영)
+    // DB 동기화 대상 zset 은 샤드와 다른 슬롯이라 스크립트 밖에서 변경된 뒤에 등록
+    private long toggleSharded(Long postId, Long userId, String action, ShardLayout layout) {
+        List<String> args = new ArrayList<>();
+        args.add(action);
+        args.add(userId.toString());
+        if (layout.isMigrating()) {
+            int previousShard = shardOf(userId, layout.previousShards());
+            args.addAll(evict(postId, layout.previousShards(), previousShard, List.of(userId.toString())));
+        }
+
+        Long delta = redisTemplate.execute(likeToggleShardedScript,
+                likeKeys(postId, layout.shards(), shardOf(userId, layout.shards())), args.toArray());
+        if (delta == null || delta == 0) {
+            return 0L;
+        }
+
+        redisTemplate.opsForZSet().addIfAbsent(dirtyKey(postId), postId.toString(), System.currentTimeMillis());
+        return delta;
+    }
+
+    // 게시물별 샤드 배치를 HMGET 한 번으로 조회 (샤드 모드가 아닌 게시물은 결과에서 제외)
+    public Map<Long, ShardLayout> getShardLayouts(Collection<Long> postIds) {
+        Map<Long, ShardLayout> layouts = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return layouts;
+        }
+
+        List<Long> ids = List.copyOf(postIds);
+        List<Object> values = redisTemplate.opsForHash().multiGet(LIKE_SHARDS_KEY, ids.stream().map(String::valueOf).collect(Collectors.toList()));
+        for (int i = 0; values != null && i < ids.size(); i++) {
+            if (values.get(i) != null) {
+                layouts.put(ids.get(i), ShardLayout.parse((String) values.get(i)));
+            }
+        }
+
+        return layouts;
+    }
+
+    // 샤드 수를 늘리고 처리 후 배치 반환 (다른 노드가 이미 늘렸거나 사용자를 옮기는 중이면 그 배치 그대로)
+    public ShardLayout growShards(Long postId, int shards) {
+        String layout = redisTemplate.execute(likeShardGrowScript, List.of(LIKE_SHARDS_KEY, LIKE_SHARDS_MIGRATING_KEY),
+                postId.toString(), String.valueOf(shards), String.valueOf(System.currentTimeMillis()));
+        return layout == null ? ShardLayout.UNSHARDED : ShardLayout.parse(layout);
+    }
+
+    // 이전 배치에서 새 샤드로 사용자를 옮기는 중인 게시물 id
+    public Set<Long> getMigratingPostIds() {
+        Set<String> postIds = redisTemplate.opsForSet().members(LIKE_SHARDS_MIGRATING_KEY);
+        if (postIds == null) {
+            return Set.of();
+        }
+
+        return postIds.stream()
+                .map(Long::parseLong)
+                .collect(Collectors.toSet());
+    }
+
+    // 이전 배치의 샤드마다 사용자를 최대 count 명씩 새 샤드로 옮기고, 옮길 사용자가 더 없으면 true
+    public boolean migrateShards(Long postId, ShardLayout layout, int count) {
+        boolean empty = true;
+
+        for (int shard = 0; shard < layout.previousShards(); shard++) {
+            Set<String> members = redisTemplate.opsForSet().distinctRandomMembers(likeKeys(postId, layout.previousShards(), shard).get(0), count);
+            if (members == null || members.isEmpty()) {
+                continue;
+            }
+            empty = false;
+
+            evict(postId, layout.previousShards(), shard, List.copyOf(members)).stream()
+                    .collect(Collectors.groupingBy(userId -> shardOf(Long.parseLong(userId), layout.shards())))
+                    .forEach((newShard, userIds) -> {
+                        List<String> args = new ArrayList<>(userIds.size() + 2);
+                        args.add(CARRY);
+                        args.add(CARRY);
+                        args.addAll(userIds);
+                        redisTemplate.execute(likeToggleShardedScript, likeKeys(postId, layout.shards(), newShard), args.toArray());
+                    });
+        }
+
+        return empty;
+    }
+
+    // 사용자를 모두 옮긴 게시물의 배치를 확정하고, 비워진 이전 샤드의 좋아요 수 키 삭제 (기준 키는 합계에 계속 포함되므로 유지)
+    public boolean settleShards(Long postId, ShardLayout layout) {
+        Long settled = redisTemplate.execute(likeShardSettleScript, List.of(LIKE_SHARDS_KEY, LIKE_SHARDS_MIGRATING_KEY),
+                postId.toString(), layout.value(), String.valueOf(layout.shards()));
+        if (settled == null || settled == 0) {
+            return false;
+        }
+
+        if (layout.previousShards() > 1) {
+            List<String> countKeys = new ArrayList<>();
+            for (int shard = 0; shard < layout.previousShards(); shard++) {
+                countKeys.add(likeKeys(postId, layout.previousShards(), shard).get(1));
+            }
+            redisTemplate.unlink(countKeys);
+        }
+        return true;
+    }
+
+    // 삭제된 게시물의 샤드 배치 정리
+    public void removeShardLayouts(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        Object[] fields = postIds.stream().map(String::valueOf).toArray();
+        redisTemplate.opsForHash().delete(LIKE_SHARDS_KEY, fields);
+        redisTemplate.opsForSet().remove(LIKE_SHARDS_MIGRATING_KEY, fields);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> evict(Long postId, int shards, int shard, List<String> userIds) {
+        List<String> evicted = redisTemplate.execute(likeShardEvictScript, likeKeys(postId, shards, shard), userIds.toArray());
+        return evicted == null ? List.of() : evicted;
+    }
+
+    private int shardOf(Long userId, int shards) {
+        return Math.floorMod(Long.hashCode(userId), shards);
+    }
+
+    // 샤드의 사용자 set 과 좋아요 수 키 (샤드가 하나면 기준 키, 여러 개면 같은 hash tag 로 묶은 post:like:{id:shard}, post:like_count:{id:shard})
+    private List<String> likeKeys(Long postId, int shards, int shard) {
+        if (shards == 1) {
+            return List.of(LIKE_KEY_PREFIX + postId, LIKE_COUNT_KEY_PREFIX + postId);
+        }
+
+        String hashTag = "{" + postId + ":" + shard + "}";
+        return List.of(LIKE_KEY_PREFIX + hashTag, LIKE_COUNT_KEY_PREFIX + hashTag);
+    }
+
+    // 샤드 배치에서 좋아요한 사용자 set (기준 키, 옮기는 중인 이전 샤드, 현재 샤드 순)
+    private List<String> likerKeys(Long postId, ShardLayout layout) {
+        List<String> keys = new ArrayList<>();
+        keys.add(LIKE_KEY_PREFIX + postId);
+        if (layout.previousShards() > 1) {
+            for (int shard = 0; shard < layout.previousShards(); shard++) {
+                keys.add(likeKeys(postId, layout.previousShards(), shard).get(0));
+            }
+        }
+        if (layout.isSharded()) {
+            for (int shard = 0; shard < layout.shards(); shard++) {
+                keys.add(likeKeys(postId, layout.shards(), shard).get(0));
+            }
+        }
+        return keys;
+    }
+
+    // 좋아요 수 합계에 더할 샤드 키 (기준 키 제외)
+    private List<String> shardCountKeys(Long postId, ShardLayout layout) {
+        List<String> keys = new ArrayList<>();
+        if (layout.previousShards() > 1) {
+            for (int shard = 0; shard < layout.previousShards(); shard++) {
+                keys.add(likeKeys(postId, layout.previousShards(), shard).get(1));
+            }
+        }
+        if (layout.isSharded()) {
+            for (int shard = 0; shard < layout.shards(); shard++) {
+                keys.add(likeKeys(postId, layout.shards(), shard).get(1));
+            }
+        }
+        return keys;
+    }
+
+    // 게시물 좋아요 샤드 배치 (previousShards 가 0 이 아니면 그 배치에서 사용자를 옮기는 중, 1 이면 기준 키)
+    public record ShardLayout(int shards, int previousShards, long grownAt) {
+
+        public static final ShardLayout UNSHARDED = new ShardLayout(1, 0, 0L);
+
+        public boolean isSharded() {
+            return shards > 1;
+        }
+
+        public boolean isMigrating() {
+            return previousShards > 0;
+        }
+
+        // 배치 hash 에 저장된 값 ("샤드 수" 또는 "샤드 수:이전 샤드 수:늘린 시각")
+        public String value() {
+            return isMigrating() ? shards + ":" + previousShards + ":" + grownAt : String.valueOf(shards);
+        }
+
+        private static ShardLayout parse(String value) {
+            String[] parts = value.split(":");
+            if (parts.length == 1) {
+                return new ShardLayout(Integer.parseInt(parts[0]), 0, 0L);
+            }
+            return new ShardLayout(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Long.parseLong(parts[2]));
+        }
+    }
+
+    // 노드의 좋아요/취소 누적값과 사용자 기록을 병합한 뒤 좋아요 수 반환, 좋아요 수 키가 없고 seed 도 없으면 null
+    // 같은 누적값과 배치 번호로 다시 호출해도 한 번만 반영됨
+    public Long mergeNodeState(NodeMerge merge, Long seed, Duration stateTtl) {
+        Long count = redisTemplate.execute(likeCrdtMergeScript, nodeStateKeys(merge.postId()), nodeStateArgs(merge, seed, stateTtl).toArray());
+        return count == null || count == SEED_REQUIRED ? null : count;
+    }
+
+    // 여러 게시물의 노드 상태를 파이프라인 한 번으로 병합하고 요청 순서대로 좋아요 수 반환 (초기값이 필요한 게시물은 null)
+    public List<Long> mergeNodeStates(List<NodeMerge> merges, Duration stateTtl) {
+        if (merges.isEmpty()) {
+            return List.of();
+        }
+
+        byte[] sha = likeCrdtMergeScript.getSha1().getBytes(StandardCharsets.UTF_8);
+        RedisCallback<Object> callback = connection -> {
+            for (NodeMerge merge : merges) {
+                List<String> keys = nodeStateKeys(merge.postId());
+                List<String> args = nodeStateArgs(merge, null, stateTtl);
+                byte[][] keysAndArgs = new byte[keys.size() + args.size()][];
+                int index = 0;
+                for (String value : keys) {
+                    keysAndArgs[index++] = value.getBytes(StandardCharsets.UTF_8);
+                }
+                for (String value : args) {
+                    keysAndArgs[index++] = value.getBytes(StandardCharsets.UTF_8);
+                }
+                connection.scriptingCommands().evalSha(sha, ReturnType.INTEGER, keys.size(), keysAndArgs);
+            }
+            return null;
+        };
+
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined(callback);
+        } catch (DataAccessException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            // Redis 재시작 등으로 스크립트가 없으면 등록 후 다시 실행 (같은 상태를 다시 병합해도 결과가 같음)
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands()
+                    .scriptLoad(likeCrdtMergeScript.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+            results = redisTemplate.executePipelined(callback);
+        }
+
+        return results.stream()
+                .map(result -> result instanceof Long count && count != SEED_REQUIRED ? count : null)
+                .toList();
+    }
+
+    // 더 이상 병합하지 않는 노드 상태 field 삭제 (이미 좋아요 수에 반영되어 있으므로 좋아요 수는 바뀌지 않음)
+    public void removeNodeStates(Map<Long, String> nodeFields) {
+        if (nodeFields.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            nodeFields.forEach((postId, nodeField) -> connection.hashCommands().hDel(
+                    (LIKE_CRDT_KEY_PREFIX + postId).getBytes(StandardCharsets.UTF_8),
+                    NODE_STATE_FIELDS.stream()
+                            .map(name -> (nodeField + ":" + name).getBytes(StandardCharsets.UTF_8))
+                            .toArray(byte[][]::new)
+            ));
+            return null;
+        });
+    }
+
+    private List<String> nodeStateKeys(Long postId) {
+        return List.of(LIKE_CRDT_KEY_PREFIX + postId, LIKE_COUNT_KEY_PREFIX + postId, dirtyKey(postId), LIKE_KEY_PREFIX + postId);
+    }
+
+    private List<String> nodeStateArgs(NodeMerge merge, Long seed, Duration stateTtl) {
+        List<String> args = new ArrayList<>(9 + merge.userOps().size());
+        args.add(merge.nodeField());
+        args.add(String.valueOf(merge.likes()));
+        args.add(String.valueOf(merge.unlikes()));
+        args.add(String.valueOf(merge.sequence()));
+        args.add(seed == null ? "" : seed.toString());
+        args.add(merge.postId().toString());
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(stateTtl.toSeconds()));
+        args.add(merge.pruneBefore() == null ? "" : merge.pruneBefore().toString());
+        args.addAll(merge.userOps());
+        return args;
+    }
+
+    private boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 노드가 병합할 상태 (pruneBefore 가 있으면 그 시각 이전에 마지막으로 병합된 다른 노드의 field 를 정리)
+    public record NodeMerge(Long postId, String nodeField, long likes, long unlikes, long sequence,
+                            List<String> userOps, Long pruneBefore) {
+    }
+
+    // 좋아요한 사용자 id를 SSCAN 으로 한 페이지 조회 (cursor 는 이전 페이지의 nextCursor, 첫 페이지는 "0")
+    // 한 번에 읽는 양은 count 근처로 제한되어 좋아요가 많은 게시물도 페이지당 비용이 일정함
+    // 순서는 보장되지 않고, 조회 중 set 이 커지면 같은 사용자가 다른 페이지에 한 번 더 나올 수 있음
+    // 샤드 모드 게시물은 사용자 set 을 차례로 읽고 커서는 "{set 순번}.{SSCAN 커서}" (샤드 수가 바뀌는 중에는 빠지거나 겹칠 수 있음)
+    @SuppressWarnings("unchecked")
+    public LikerPage scanLikers(Long postId, String cursor, int count) {
+        List<String> likerKeys = likerKeys(postId, getShardLayouts(List.of(postId)).getOrDefault(postId, ShardLayout.UNSHARDED));
+        int separator = cursor.indexOf('.');
+        int index = separator < 0 ? 0 : Integer.parseInt(cursor.substring(0, separator));
+        String scanCursor = cursor.substring(separator + 1);
+        if (index >= likerKeys.size()) {
+            return new LikerPage(List.of(), null);
+        }
+
+        List<Object> result = redisTemplate.execute((RedisCallback<List<Object>>) connection -> (List<Object>) connection.execute(
+                "SSCAN",
+                likerKeys.get(index).getBytes(StandardCharsets.UTF_8),
+                scanCursor.getBytes(StandardCharsets.UTF_8),
+                SCAN_COUNT,
+                String.valueOf(count).getBytes(StandardCharsets.UTF_8)
+        ));
+        if (result == null || result.size() < 2) {
+            return new LikerPage(List.of(), null);
+        }
+
+        String nextScanCursor = new String((byte[]) result.get(0), StandardCharsets.UTF_8);
+        List<Long> userIds = ((List<?>) result.get(1)).stream()
+                .map(member -> Long.parseLong(new String((byte[]) member, StandardCharsets.UTF_8)))
+                .toList();
+
+        String nextCursor;
+        if (!"0".equals(nextScanCursor)) {
+            nextCursor = index == 0 ? nextScanCursor : index + "." + nextScanCursor;
+        } else {
+            nextCursor = index + 1 < likerKeys.size() ? (index + 1) + ".0" : null;
+        }
+        return new LikerPage(userIds, nextCursor);
+    }
+
+    public record LikerPage(List<Long> userIds, String nextCursor) {
+    }
+
+    // DB 동기화를 기다리는 게시물 id
+    public Set<Long> findDirtyPostIds(Collection<Long> postIds) {
+        Set<Long> dirtyPostIds = new HashSet<>();
+
+        postIds.stream()
+                .collect(Collectors.groupingBy(this::dirtyKey))
+                .forEach((dirtyKey, ids) -> {
+                    List<Double> scores = redisTemplate.opsForZSet().score(dirtyKey, ids.stream().map(String::valueOf).toArray());
+                    for (int i = 0; scores != null && i < ids.size(); i++) {
+                        if (scores.get(i) != null) {
+                            dirtyPostIds.add(ids.get(i));
+                        }
+                    }
+                });
+
+        return dirtyPostIds;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    // 게시물 id 해시 기준 동기화 파티션
+    public int partitionOf(Long postId) {
+        return Math.floorMod(Long.hashCode(postId), partitions);
+    }
+
+    // 파티션에서 가장 오래전에 변경된 게시물 id를 최대 count 개 꺼내서 동기화 중으로 옮김
+    @SuppressWarnings("unchecked")
+    public List<Long> claimDirtyPostIds(int partition, int count) {
+        List<String> postIds = redisTemplate.execute(likeDirtyClaimScript,
+                List.of(LIKE_DIRTY_KEY_PREFIX + partition, LIKE_SYNCING_KEY_PREFIX + partition), String.valueOf(count));
+        if (postIds == null) {
+            return List.of();
+        }
+
+        return postIds.stream()
+                .map(Long::parseLong)
+                .toList();
+    }
+
+    // DB에 반영한 게시물 id를 동기화 중에서 제거
+    public void completeSyncing(int partition, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.opsForZSet().remove(LIKE_SYNCING_KEY_PREFIX + partition, postIds.stream().map(String::valueOf).toArray());
+    }
+
+    // 반영하지 못한 게시물 id를 처음 변경된 시각으로 다시 동기화 대상에 등록
+    public void restoreSyncing(int partition, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.execute(likeDirtyRestoreScript,
+                List.of(LIKE_DIRTY_KEY_PREFIX + partition, LIKE_SYNCING_KEY_PREFIX + partition),
+                postIds.stream().map(String::valueOf).toArray());
+    }
+
+    // 이전 실행이 반영 도중 종료되어 동기화 중으로 남은 게시물 id를 모두 되돌리고 개수 반환
+    public long restoreAllSyncing() {
+        long restored = 0;
+
+        for (int partition = 0; partition < partitions; partition++) {
+            Set<String> postIds = redisTemplate.opsForZSet().range(LIKE_SYNCING_KEY_PREFIX + partition, 0, -1);
+            if (postIds == null || postIds.isEmpty()) {
+                continue;
+            }
+
+            restoreSyncing(partition, postIds.stream().map(Long::parseLong).toList());
+            restored += postIds.size();
+        }
+
+        return restored;
+    }
+
+    // 가장 오래된 미동기화 변경 시각 (epoch millis), 없으면 null
+    public Long getOldestDirtyTimestamp() {
+        Long oldest = null;
+
+        for (int partition = 0; partition < partitions; partition++) {
+            // 반영 중인 게시물도 DB에 반영되기 전까지는 밀린 변경으로 봄
+            for (String key : List.of(LIKE_DIRTY_KEY_PREFIX + partition, LIKE_SYNCING_KEY_PREFIX + partition)) {
+                Set<ZSetOperations.TypedTuple<String>> first = redisTemplate.opsForZSet().rangeWithScores(key, 0, 0);
+                if (first == null || first.isEmpty()) {
+                    continue;
+                }
+
+                long timestamp = first.iterator().next().getScore().longValue();
+                oldest = oldest == null ? timestamp : Math.min(oldest, timestamp);
+            }
+        }
+
+        return oldest;
+    }
+
+    private String dirtyKey(Long postId) {
+        return LIKE_DIRTY_KEY_PREFIX + partitionOf(postId);
+    }
+
+    // 게시물별 좋아요 수를 MGET 한 번으로 조회 (키가 없으면 결과에서 제외)
+    public Map<Long, Long> getCounts(List<Long> postIds) {
+        return getCounts(postIds, getShardLayouts(postIds));
+    }
+
+    // 샤드 모드 게시물은 기준 키(post:like_count:{id})에 샤드 키의 좋아요 수를 더한 값 (기준 키가 없으면 결과에서 제외)
+    public Map<Long, Long> getCounts(List<Long> postIds, Map<Long, ShardLayout> layouts) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return counts;
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<Integer> shardKeyCounts = new ArrayList<>(postIds.size());
+        for (Long postId : postIds) {
+            List<String> shardCountKeys = shardCountKeys(postId, layouts.getOrDefault(postId, ShardLayout.UNSHARDED));
+            keys.add(LIKE_COUNT_KEY_PREFIX + postId);
+            keys.addAll(shardCountKeys);
+            shardKeyCounts.add(shardCountKeys.size());
+        }
+
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return counts;
+        }
+
+        int index = 0;
+        for (int i = 0; i < postIds.size(); i++) {
+            String value = values.get(index++);
+            long count = value == null ? 0L : Long.parseLong(value);
+            for (int shard = 0; shard < shardKeyCounts.get(i); shard++) {
+                String shardValue = values.get(index++);
+                count += shardValue == null ? 0L : Long.parseLong(shardValue);
+            }
+
+            if (value != null) {
+                counts.put(postIds.get(i), count);
+            }
+        }
+
+        return counts;
+    }
+}
@@ -1,26 +1,97 @@
 package com.devita.domain.post.repository;
 
 import com.devita.domain.post.domain.Post;
-import com.devita.domain.user.domain.User;
+import com.devita.domain.post.dto.PostSearchDTO;
+import com.devita.domain.post.dto.PostSummaryDTO;
 import io.lettuce.core.dynamic.annotation.Param;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
     // 모든 게시물을 페이징하여 조회
     Page<Post> findAll(Pageable pageable);
 
-    // 사용자가 작성한 게시물 조회
-    // N+1 고려
-    @Query(value = "SELECT p FROM Post p JOIN FETCH p.writer w WHERE w.id = :writerId",
-            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.writer.id = :writerId")
-    Page<Post> findByWriterIdWithFetchJoin(@Param("writerId") Long writerId, Pageable pageable);
+    // 목록 조회용 프로젝션 - 페이지 번호 기반 (COUNT 쿼리 없음)
+    @Query("SELECT new com.devita.domain.post.dto.PostSummaryDTO(p.id, p.title, p.excerpt, p.likes, p.views, p.commentCount, p.createdAt) " +
+            "FROM Post p")
+    List<PostSummaryDTO> findSummaries(Pageable pageable);
+
+    // 커서 기반 조회 - 첫 페이지 (COUNT 쿼리 없음)
+    @Query("SELECT new com.devita.domain.post.dto.PostSummaryDTO(p.id, p.title, p.excerpt, p.likes, p.views, p.commentCount, p.createdAt) " +
+            "FROM Post p ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDTO> findLatest(Pageable pageable);
+
+    // 커서 기반 조회 - (createdAt, id) 이후 페이지, idx_post_created_at_id 인덱스 탐색
+    @Query("SELECT new com.devita.domain.post.dto.PostSummaryDTO(p.id, p.title, p.excerpt, p.likes, p.views, p.commentCount, p.createdAt) " +
+            "FROM Post p " +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDTO> findLatestBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 사용자가 작성한 게시물 조회 (작성자 정보는 사용하지 않으므로 조인 없음)
+    // Slice 반환이라 size + 1 건만 읽어서 다음 페이지 여부를 판단하고 COUNT 쿼리는 실행하지 않음 (idx_post_writer_created_at_id)
+    @Query("SELECT new com.devita.domain.post.dto.PostSummaryDTO(p.id, p.title, p.excerpt, p.likes, p.views, p.commentCount, p.createdAt) " +
+            "FROM Post p WHERE p.writer.id = :writerId")
+    Slice<PostSummaryDTO> findSliceByWriterId(@Param("writerId") Long writerId, Pageable pageable);
+
+    // id 목록으로 한 번에 조회 (순서는 호출한 쪽에서 맞춤)
+    @Query("SELECT new com.devita.domain.post.dto.PostSummaryDTO(p.id, p.title, p.excerpt, p.likes, p.views, p.commentCount, p.createdAt) " +
+            "FROM Post p WHERE p.id IN :ids")
+    List<PostSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 홈 피드 - 작성자의 최신 게시물 id
+    @Query("SELECT p.id FROM Post p WHERE p.writer.id = :writerId ORDER BY p.id DESC")
+    List<Long> findIdsByWriterId(@Param("writerId") Long writerId, Pageable pageable);
+
+    // 홈 피드 - id 목록 중 특정 작성자의 게시물 id
+    @Query("SELECT p.id FROM Post p WHERE p.writer.id = :writerId AND p.id IN :ids")
+    List<Long> findIdsByWriterIdAndIdIn(@Param("writerId") Long writerId, @Param("ids") Collection<Long> ids);
+
+    // 홈 피드 - 타임라인이 없을 때만 사용하는 재구성 쿼리 (팔로우한 작성자들의 최신 게시물 id)
+    @Query("SELECT p.id FROM Post p " +
+            "WHERE p.writer.id IN (SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId) " +
+            "ORDER BY p.id DESC")
+    List<Long> findFeedPostIds(@Param("userId") Long userId, Pageable pageable);
+
+    // id 목록 중 존재하는 게시물 id (Redis 키 정리용)
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 검색 색인용 전체 스트리밍 조회 (MySQL 은 fetch size 가 Integer.MIN_VALUE 일 때 행 단위 스트리밍)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("SELECT new com.devita.domain.post.dto.PostSearchDTO(p.id, p.title, p.description, p.updatedAt) FROM Post p")
+    Stream<PostSearchDTO> streamAllForSearch();
+
+    // 검색 색인용 - 특정 시각 이후 작성/수정된 게시물 스트리밍 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("SELECT new com.devita.domain.post.dto.PostSearchDTO(p.id, p.title, p.description, p.updatedAt) " +
+            "FROM Post p WHERE p.updatedAt > :since")
+    Stream<PostSearchDTO> streamUpdatedSinceForSearch(@Param("since") LocalDateTime since);
+
+    // excerpt 컬럼 추가 이전에 작성된 게시물 보정
+    @Modifying
+    @Query(value = "UPDATE post SET excerpt = LEFT(description, " + Post.EXCERPT_LENGTH + ") " +
+            "WHERE excerpt IS NULL AND description IS NOT NULL LIMIT :batchSize", nativeQuery = true)
+    int fillMissingExcerpts(@Param("batchSize") int batchSize);
+
+    // 상세 조회 - 작성자 닉네임을 위해 writer 함께 조회
+    @Query("SELECT p FROM Post p JOIN FETCH p.writer WHERE p.id = :postId")
+    Optional<Post> findByIdWithWriter(@Param("postId") Long postId);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Post p WHERE p.id = :postId")
@@ -29,4 +100,4 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     //    @Query("SELECT p FROM POST p WHERE p.id = :postId")
 //    Optional<Post> findById(@Param("postId") Long postId);
     Optional<Post> findById(Long id);
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package com.devita.domain.post.service;
+
+import com.devita.common.counter.DurableBufferedCounter;
+import com.devita.domain.post.repository.PostJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+// 댓글 수 write-behind 버퍼 - 목록 조회마다 COUNT 하지 않도록 post.comment_count 에 주기적으로 일괄 반영
+@Component
+@Slf4j
+public class PostCommentCounter {
+
+    private final PostJdbcRepository postJdbcRepository;
+    private final PostDetailCache postDetailCache;
+    private final DurableBufferedCounter buffer;
+
+    public PostCommentCounter(PostJdbcRepository postJdbcRepository,
+                              PostDetailCache postDetailCache,
+                              @Value("${counter.log.dir:data/counter-log}") String logDirectory,
+                              @Value("${counter.log.segment-bytes:16777216}") int segmentBytes) {
+        this.postJdbcRepository = postJdbcRepository;
+        this.postDetailCache = postDetailCache;
+        this.buffer = new DurableBufferedCounter(Path.of(logDirectory), "post-comment", segmentBytes);
+    }
+
+    public void increase(Long postId) {
+        buffer.add(postId, 1L);
+    }
+
+    public void decrease(Long postId) {
+        buffer.add(postId, -1L);
+    }
+
+    // DB에 아직 반영되지 않은 댓글 수
+    public long getPending(Long postId) {
+        return buffer.getPending(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${post.comment.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            buffer.flush(deltas -> {
+                postJdbcRepository.addCommentCounts(deltas);
+                postDetailCache.evictAll(deltas.keySet());
+                log.debug("댓글 수 반영 완료: {}건", deltas.size());
+            });
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기에 다시 시도
+            log.error("댓글 수 반영 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        buffer.close();
+    }
+}
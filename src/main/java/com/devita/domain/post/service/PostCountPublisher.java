@@ -0,0 +1,69 @@
+package com.devita.domain.post.service;
+
+import com.devita.common.counter.BufferedCounter;
+import com.devita.domain.post.repository.PostCountRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 좋아요/조회 경로의 변경을 모아서 주기적으로 Redis 채널에 발행 (스트림을 보는 노드가 있는 게시물만)
+// 메시지: "{좋아요 수},{조회수 증가분}" - 좋아요 수가 바뀌지 않았으면 비워둠
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostCountPublisher {
+
+    private final PostCountRedisRepository postCountRedisRepository;
+    // 게시물별 마지막 좋아요 수
+    private final Map<Long, Long> likes = new ConcurrentHashMap<>();
+    private final BufferedCounter views = new BufferedCounter();
+
+    public void recordLikes(Long postId, Long likeCount) {
+        likes.put(postId, likeCount);
+    }
+
+    public void recordView(Long postId) {
+        views.add(postId, 1L);
+    }
+
+    @Scheduled(fixedDelayString = "${post.stream.publish-interval-ms:500}")
+    public void publish() {
+        Map<Long, Long> viewDeltas = views.drain();
+        Map<Long, Long> latestLikes = new HashMap<>();
+        for (Long postId : likes.keySet()) {
+            Long likeCount = likes.remove(postId);
+            if (likeCount != null) {
+                latestLikes.put(postId, likeCount);
+            }
+        }
+
+        Set<Long> postIds = new HashSet<>(viewDeltas.keySet());
+        postIds.addAll(latestLikes.keySet());
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<Long, String> messages = new HashMap<>();
+            for (Long postId : postCountRedisRepository.findWatched(List.copyOf(postIds))) {
+                Long likeCount = latestLikes.get(postId);
+                messages.put(postId, (likeCount == null ? "" : likeCount) + "," + viewDeltas.getOrDefault(postId, 0L));
+            }
+
+            if (!messages.isEmpty()) {
+                postCountRedisRepository.publish(messages);
+            }
+        } catch (RuntimeException e) {
+            // 실시간 표시용이라 다시 보내지 않음 (다음 변경이나 재접속 시 맞춰짐)
+            log.warn("게시물 카운트 발행 실패: {}", e.getMessage());
+        }
+    }
+}
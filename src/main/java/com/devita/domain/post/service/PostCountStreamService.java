@@ -0,0 +1,237 @@
+package com.devita.domain.post.service;
+
+import com.devita.domain.post.dto.PostCountsDTO;
+import com.devita.domain.post.repository.PostCountRedisRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게시물 좋아요/조회수 실시간 스트림 (SSE)
+// 노드마다 게시물당 Redis 채널 구독 하나를 두고, 받은 변경을 모아서 push-interval 마다 한 번씩 클라이언트에 전송
+// SseEmitter 는 비동기 요청이라 연결을 유지하는 동안 요청 스레드를 점유하지 않음
+// 전송은 postStreamSendExecutor 에서 실행해서 느린 클라이언트가 스케줄러 스레드를 붙잡지 않도록 함
+@Service
+@Slf4j
+public class PostCountStreamService {
+
+    private static final Duration WATCH_TTL = Duration.ofSeconds(60);
+
+    private final PostService postService;
+    private final PostCountRedisRepository postCountRedisRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final TaskExecutor postStreamSendExecutor;
+    private final long emitterTimeoutMillis;
+    private final Map<Long, PostStream> streams = new ConcurrentHashMap<>();
+
+    public PostCountStreamService(PostService postService,
+                                  PostCountRedisRepository postCountRedisRepository,
+                                  RedisMessageListenerContainer redisMessageListenerContainer,
+                                  TaskExecutor postStreamSendExecutor,
+                                  @Value("${post.stream.timeout-ms:1800000}") long emitterTimeoutMillis) {
+        this.postService = postService;
+        this.postCountRedisRepository = postCountRedisRepository;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.postStreamSendExecutor = postStreamSendExecutor;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    public SseEmitter subscribe(Long postId) {
+        // 게시물이 없으면 여기서 예외
+        PostCountsDTO snapshot = postService.getPostCounts(postId);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        emitter.onCompletion(() -> unsubscribe(postId, emitter));
+        emitter.onTimeout(() -> unsubscribe(postId, emitter));
+        emitter.onError(e -> unsubscribe(postId, emitter));
+
+        // 마지막 연결이 끊겨 닫히는 중인 스트림이면 맵에서 빠질 때까지 다시 시도
+        PostStream stream;
+        do {
+            stream = streams.computeIfAbsent(postId, id -> new PostStream(id, snapshot.likes(), snapshot.views()));
+        } while (!stream.add(emitter));
+
+        // 채널 구독은 맵 잠금 밖에서 (이미 구독 중이면 건너뜀)
+        try {
+            stream.listen(redisMessageListenerContainer, postCountRedisRepository);
+        } catch (RuntimeException e) {
+            unsubscribe(postId, emitter);
+            throw e;
+        }
+        send(emitter, stream.toDTO());
+        return emitter;
+    }
+
+    // 변경된 게시물만 연결된 클라이언트에 전송
+    @Scheduled(fixedDelayString = "${post.stream.push-interval-ms:1000}")
+    // 이전 전송이 아직 끝나지 않은 게시물은 다음 주기에 최신 값으로 전송
+    public void push() {
+        streams.values().forEach(stream -> {
+            if (!stream.changed || !stream.sending.compareAndSet(false, true)) {
+                return;
+            }
+            stream.changed = false;
+
+            PostCountsDTO counts = stream.toDTO();
+            execute(stream, () -> stream.emitters.forEach(emitter -> send(emitter, counts)));
+        });
+    }
+
+    // 보고 있는 게시물 등록을 연장하고, 끊긴 연결을 찾기 위해 주석 이벤트 전송
+    @Scheduled(fixedDelayString = "${post.stream.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        try {
+            postCountRedisRepository.watch(streams.keySet(), WATCH_TTL);
+        } catch (RuntimeException e) {
+            log.warn("스트림 게시물 등록 연장 실패: {}", e.getMessage());
+        }
+
+        streams.values().forEach(stream -> {
+            if (!stream.sending.compareAndSet(false, true)) {
+                return;
+            }
+
+            execute(stream, () -> stream.emitters.forEach(emitter -> {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                }
+            }));
+        });
+    }
+
+    // 마지막 클라이언트가 끊기면 구독 해제 (등록은 만료 시각이 지나면 정리됨)
+    private void unsubscribe(Long postId, SseEmitter emitter) {
+        PostStream stream = streams.get(postId);
+        if (stream != null && stream.remove(emitter, redisMessageListenerContainer)) {
+            streams.remove(postId, stream);
+        }
+    }
+
+    // 게시물마다 전송 작업은 하나씩만 실행, 풀이 가득 차면 이번 주기는 건너뜀
+    private void execute(PostStream stream, Runnable task) {
+        try {
+            postStreamSendExecutor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    stream.sending.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            stream.changed = true;
+            stream.sending.set(false);
+            log.debug("스트림 전송 대기열 초과: postId={}", stream.postId);
+        }
+    }
+
+    private void send(SseEmitter emitter, PostCountsDTO counts) {
+        try {
+            emitter.send(SseEmitter.event().name("counts").data(counts));
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    // 한 게시물의 구독과 최신 값
+    private static final class PostStream implements MessageListener {
+        private final Long postId;
+        private final ChannelTopic topic;
+        private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+        private final AtomicLong likes;
+        private final AtomicLong views;
+        private volatile boolean changed;
+        // 전송 풀에 이 게시물 작업이 남아 있는지
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // 아래 두 상태는 this 로 잠가서 변경
+        private boolean listening;
+        private boolean closed;
+
+        private PostStream(Long postId, long likes, long views) {
+            this.postId = postId;
+            this.topic = PostCountRedisRepository.topic(postId);
+            this.likes = new AtomicLong(likes);
+            this.views = new AtomicLong(views);
+        }
+
+        // 연결 추가, 마지막 연결이 끊겨 이미 닫힌 스트림이면 false
+        private synchronized boolean add(SseEmitter emitter) {
+            if (closed) {
+                return false;
+            }
+            emitters.add(emitter);
+            return true;
+        }
+
+        // 첫 연결이면 채널을 구독하고 보고 있는 게시물로 등록
+        private synchronized void listen(RedisMessageListenerContainer container, PostCountRedisRepository repository) {
+            if (listening || closed) {
+                return;
+            }
+            container.addMessageListener(this, topic);
+            listening = true;
+
+            try {
+                repository.watch(Set.of(postId), WATCH_TTL);
+            } catch (RuntimeException e) {
+                // heartbeat 에서 다시 등록
+                log.warn("스트림 게시물 등록 실패: postId={}, {}", postId, e.getMessage());
+            }
+        }
+
+        // 연결 제거, 마지막 연결이었으면 구독을 해제하고 닫은 뒤 true
+        private synchronized boolean remove(SseEmitter emitter, RedisMessageListenerContainer container) {
+            if (!emitters.remove(emitter) || !emitters.isEmpty()) {
+                return false;
+            }
+
+            closed = true;
+            if (listening) {
+                container.removeMessageListener(this, topic);
+                listening = false;
+            }
+            return true;
+        }
+
+        // "{좋아요 수},{조회수 증가분}"
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf(',');
+            if (separator < 0) {
+                return;
+            }
+
+            try {
+                if (separator > 0) {
+                    likes.set(Long.parseLong(body.substring(0, separator)));
+                }
+                views.addAndGet(Long.parseLong(body.substring(separator + 1)));
+                changed = true;
+            } catch (NumberFormatException e) {
+                log.debug("잘못된 게시물 카운트 메시지: {}", body);
+            }
+        }
+
+        private PostCountsDTO toDTO() {
+            return new PostCountsDTO(postId, likes.get(), views.get());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.devita.domain.post.service;
+
+import com.devita.domain.post.dto.PostDetailDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+// 게시물 상세 2단 캐시 - L1: 노드 로컬 Caffeine (크기/TTL 제한), L2: Redis
+@Component
+@Slf4j
+public class PostDetailCache {
+
+    private static final String DETAIL_KEY_PREFIX = "post:detail:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, PostDetailDTO> localCache;
+    private final Duration remoteTtl;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public PostDetailCache(StringRedisTemplate redisTemplate,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${post.cache.local.max-size:10000}") long localMaxSize,
+                           @Value("${post.cache.local.ttl-seconds:10}") long localTtlSeconds,
+                           @Value("${post.cache.remote.ttl-seconds:300}") long remoteTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.remoteTtl = Duration.ofSeconds(remoteTtlSeconds);
+        // 다른 노드의 수정/삭제는 L1 TTL 안에서 반영됨
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "post.detail.local");
+        this.remoteHits = Counter.builder("post.detail.remote.requests").tag("result", "hit").register(meterRegistry);
+        this.remoteMisses = Counter.builder("post.detail.remote.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    // L1 -> L2 -> loader(DB) 순서로 조회
+    public PostDetailDTO get(Long postId, Function<Long, PostDetailDTO> loader) {
+        return localCache.get(postId, id -> {
+            PostDetailDTO cached = getRemote(id);
+            if (cached != null) {
+                remoteHits.increment();
+                return cached;
+            }
+
+            remoteMisses.increment();
+            PostDetailDTO loaded = loader.apply(id);
+            putRemote(loaded);
+            return loaded;
+        });
+    }
+
+    public void evict(Long postId) {
+        localCache.invalidate(postId);
+        redisTemplate.delete(DETAIL_KEY_PREFIX + postId);
+    }
+
+    // 버퍼의 증감분을 DB에 반영한 게시물 - 버퍼에서 빠진 증감분이 캐시에도 없으므로 L2 -> L1 순서로 비움
+    // (L1 을 먼저 비우면 그 사이 L1 을 다시 채운 요청이 반영 전 L2 값을 가져올 수 있음)
+    // 다음 조회는 반영된 DB 값에서 시작하므로 L1/L2 TTL 이 지난 뒤에도 값이 줄어 보이지 않음
+    public void evictAll(Collection<Long> postIds) {
+        redisTemplate.delete(postIds.stream().map(postId -> DETAIL_KEY_PREFIX + postId).toList());
+        localCache.invalidateAll(postIds);
+    }
+
+    private PostDetailDTO getRemote(Long postId) {
+        try {
+            String json = redisTemplate.opsForValue().get(DETAIL_KEY_PREFIX + postId);
+            return json == null ? null : objectMapper.readValue(json, PostDetailDTO.class);
+        } catch (JsonProcessingException e) {
+            log.warn("게시물 상세 캐시 역직렬화 실패 postId={}: {}", postId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(PostDetailDTO postDetailDTO) {
+        try {
+            redisTemplate.opsForValue().set(DETAIL_KEY_PREFIX + postDetailDTO.id(), objectMapper.writeValueAsString(postDetailDTO), remoteTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("게시물 상세 캐시 직렬화 실패 postId={}: {}", postDetailDTO.id(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.devita.domain.post.service;
+
+import com.devita.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// excerpt 컬럼이 비어 있는 기존 게시물을 서버 시작 시 나누어 채움
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostExcerptInitializer {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingExcerpts() {
+        int total = 0;
+        int updated;
+
+        // 한 번에 긴 락을 잡지 않도록 배치 단위로 커밋
+        do {
+            Integer result = transactionTemplate.execute(status -> postRepository.fillMissingExcerpts(BATCH_SIZE));
+            updated = result == null ? 0 : result;
+            total += updated;
+        } while (updated == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("게시물 excerpt 보정 완료: {}건", total);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.devita.domain.post.service;
+
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시물 검색용 메모리 역색인 - 한국어 비중이 높아 형태소 분석 대신 문자 바이그램으로 색인하고 BM25로 순위 계산
+@Component
+public class PostSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 제목에 포함된 단어는 본문보다 높게 반영
+    private static final int TITLE_WEIGHT = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // term -> (postId -> term frequency)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // postId -> 색인된 term 목록 (수정/삭제 시 postings 정리용)
+    private final Map<Long, String[]> documentTerms = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private long totalLength = 0;
+
+    // 게시물 색인 (이미 색인된 게시물이면 교체)
+    public void index(Long postId, String title, String description) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = addTerms(termFrequencies, title, TITLE_WEIGHT) + addTerms(termFrequencies, description, 1);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            if (termFrequencies.isEmpty()) {
+                return;
+            }
+
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(postId, frequency));
+            documentTerms.put(postId, termFrequencies.keySet().toArray(String[]::new));
+            documentLengths.put(postId, length);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // BM25 점수 상위 size 개 게시물 id
+    public List<Long> search(String query, int size) {
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(query));
+        if (queryTerms.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documentLengths.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String term : queryTerms) {
+                Map<Long, Integer> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+
+                int documentFrequency = termPostings.size();
+                double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+                termPostings.forEach((postId, frequency) -> {
+                    double normalizedLength = 1 - B + B * documentLengths.get(postId) / averageLength;
+                    double score = idf * frequency * (K1 + 1) / (frequency + K1 * normalizedLength);
+                    scores.merge(postId, score, Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return topPostIds(scores, size);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentLengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 정규화 후 단어별 문자 바이그램으로 분리 (한 글자 단어는 그대로 사용)
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.add(word);
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+
+        return tokens;
+    }
+
+    private int addTerms(Map<String, Integer> termFrequencies, String text, int weight) {
+        List<String> tokens = tokenize(text);
+        tokens.forEach(token -> termFrequencies.merge(token, weight, Integer::sum));
+        return tokens.size() * weight;
+    }
+
+    private void removeInternal(Long postId) {
+        String[] terms = documentTerms.remove(postId);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms) {
+            Map<Long, Integer> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(postId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= documentLengths.remove(postId);
+    }
+
+    private List<Long> topPostIds(Map<Long, Double> scores, int size) {
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > size) {
+                heap.poll();
+            }
+        }
+
+        List<Long> postIds = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            postIds.add(0, heap.poll().getKey());
+        }
+        return postIds;
+    }
+}
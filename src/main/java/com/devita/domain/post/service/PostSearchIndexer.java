@@ -0,0 +1,72 @@
+package com.devita.domain.post.service;
+
+import com.devita.domain.post.dto.PostSearchDTO;
+import com.devita.domain.post.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+// 검색 색인 적재 - 서버 시작 시 DB를 스트리밍으로 읽어 전체 색인하고,
+// 다른 노드에서 작성/수정된 게시물은 updatedAt 기준으로 주기적으로 따라잡음
+@Component
+@Slf4j
+public class PostSearchIndexer {
+
+    // 노드 간 시계 오차를 고려해서 조금 앞 시점부터 다시 읽음
+    private static final long CATCH_UP_MARGIN_SECONDS = 5;
+
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private volatile LocalDateTime lastIndexedAt;
+
+    public PostSearchIndexer(PostRepository postRepository, PostSearchIndex postSearchIndex, PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.postSearchIndex = postSearchIndex;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long started = System.currentTimeMillis();
+
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<PostSearchDTO> posts = postRepository.streamAllForSearch()) {
+                posts.forEach(this::index);
+            }
+        });
+        lastIndexedAt = startedAt;
+
+        log.info("게시물 검색 색인 완료: {}건, {}ms", postSearchIndex.size(), System.currentTimeMillis() - started);
+    }
+
+    @Scheduled(fixedDelayString = "${post.search.catch-up-interval-ms:30000}")
+    public void catchUp() {
+        if (lastIndexedAt == null) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = lastIndexedAt.minusSeconds(CATCH_UP_MARGIN_SECONDS);
+
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<PostSearchDTO> posts = postRepository.streamUpdatedSinceForSearch(since)) {
+                posts.forEach(this::index);
+            }
+        });
+        lastIndexedAt = startedAt;
+    }
+
+    private void index(PostSearchDTO post) {
+        postSearchIndex.index(post.id(), post.title(), post.description());
+    }
+}
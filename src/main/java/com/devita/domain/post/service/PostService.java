@@ -2,28 +2,45 @@ package com.devita.domain.post.service;
 
 import com.devita.common.exception.AccessDeniedException;
 import com.devita.common.exception.ErrorCode;
+import com.devita.common.exception.IllegalArgumentException;
 import com.devita.common.exception.ResourceNotFoundException;
+import com.devita.common.util.PageSizes;
+import com.devita.common.util.TransactionCallbacks;
+import com.devita.domain.comment.repository.CommentRepository;
+import com.devita.domain.feed.service.FeedService;
 import com.devita.domain.post.domain.Post;
+import com.devita.domain.post.dto.LikeResultDTO;
+import com.devita.domain.post.dto.PostCursor;
+import com.devita.domain.post.dto.PostCountsDTO;
+import com.devita.domain.post.dto.PostCursorResDTO;
+import com.devita.domain.post.dto.PostDetailDTO;
+import com.devita.domain.post.dto.PostLikersResDTO;
 import com.devita.domain.post.dto.PostReqDTO;
 import com.devita.domain.post.dto.PostResDTO;
+import com.devita.domain.post.dto.PostSliceResDTO;
+import com.devita.domain.post.dto.PostSummaryDTO;
 import com.devita.domain.post.dto.PostsResDTO;
+import com.devita.domain.post.repository.PostLikeRedisRepository;
 import com.devita.domain.post.repository.PostRepository;
+import com.devita.domain.post.service.like.LikeCounterRegistry;
 import com.devita.domain.user.domain.User;
+import com.devita.domain.user.dto.UserSummaryDTO;
 import com.devita.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.redis.core.SetOperations;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.devita.common.exception.ErrorCode.ACCESS_DENIED;
 import static com.devita.common.exception.ErrorCode.POST_NOT_FOUND;
@@ -33,12 +50,21 @@ import static com.devita.common.exception.ErrorCode.POST_NOT_FOUND;
 @RequiredArgsConstructor
 public class PostService {
 
+    // 좋아요한 사용자 목록 한 페이지 최대 크기
+    private static final int MAX_LIKERS_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final StringRedisTemplate redisTemplate;
-
-    private static final String LIKE_KEY_PREFIX = "post:like:";
-    private static final String LIKE_COUNT_KEY_PREFIX = "post:like_count:";
+    private final LikeCounterRegistry likeCounterRegistry;
+    private final PostViewCounter postViewCounter;
+    private final PostCommentCounter postCommentCounter;
+    private final PostDetailCache postDetailCache;
+    private final PostTrendingRanker postTrendingRanker;
+    private final PostSearchIndex postSearchIndex;
+    private final FeedService feedService;
+    private final PostCountPublisher postCountPublisher;
+    private final PostLikeRedisRepository postLikeRedisRepository;
+    private final CommentRepository commentRepository;
 
     // 게시물 생성
     public Post addPost(Long userId, PostReqDTO postReqDTO) {
@@ -50,14 +76,26 @@ public class PostService {
                 .description(postReqDTO.description())
                 .build();
 
-        return postRepository.save(post);
+        Post savedPost = postRepository.save(post);
+        postSearchIndex.index(savedPost.getId(), savedPost.getTitle(), savedPost.getDescription());
+        feedService.publish(userId, savedPost.getId());
+
+        return savedPost;
     }
 
-    // 게시물 삭제
+    // 게시물 삭제 (댓글과 게시물은 함께 삭제하고, 캐시와 Redis 정리는 커밋된 뒤에 실행)
+    @Transactional
     public void deletePost(Long userId, Long postId) {
         Post post = validateWriter(userId, postId);
 
+        commentRepository.deleteByPostId(postId);
         postRepository.delete(post);
+        TransactionCallbacks.afterCommit(() -> {
+            postDetailCache.evict(postId);
+            postTrendingRanker.remove(postId);
+            postSearchIndex.remove(postId);
+            feedService.unpublish(userId, postId);
+        });
     }
 
     // 게시물 수정
@@ -66,49 +104,150 @@ public class PostService {
 
         post.updatePost(postReqDTO.title(), postReqDTO.description());
         postRepository.save(post);
+        postDetailCache.evict(postId);
+        postSearchIndex.index(postId, post.getTitle(), post.getDescription());
 
-        return new PostResDTO(postId, post.getWriter().getNickname(), post.getTitle(), post.getDescription(), post.getLikes(), post.getViews());
+        return new PostResDTO(postId, post.getWriter().getNickname(), post.getTitle(), post.getDescription(), post.getLikes(), post.getViews(), post.getCommentCount());
     }
 
     // 게시물 페이징 조회
     public List<PostsResDTO> getPosts(int page, int size) {
         Pageable pageable = PageRequest.of(page, size); // 페이지 번호와 페이지 크기를 기반으로 Pageable 객체 생성
-        Page<Post> postPage = postRepository.findAll(pageable);
 
-        return postPage.getContent().stream()
-                .map(post -> new PostsResDTO(post.getId(), post.getTitle(), post.getDescription(), post.getLikes(), post.getViews()))
-                .toList();
+        return toPostsResDTOs(postRepository.findSummaries(pageable));
+    }
+
+    // 게시물 커서 기반 조회
+    public PostCursorResDTO getPostsByCursor(String cursor, int size) {
+        int pageSize = PageSizes.validate(size);
+        Pageable pageable = PageRequest.of(0, pageSize);
+        List<PostSummaryDTO> posts = (cursor == null || cursor.isBlank())
+                ? postRepository.findLatest(pageable)
+                : findLatestBefore(PostCursor.decode(cursor), pageable);
+
+        List<PostsResDTO> postsResDTOs = toPostsResDTOs(posts);
+
+        // 요청한 크기만큼 채워졌을 때만 다음 커서 발급
+        String nextCursor = null;
+        if (posts.size() == pageSize) {
+            PostSummaryDTO last = posts.get(posts.size() - 1);
+            nextCursor = new PostCursor(last.createdAt(), last.id()).encode();
+        }
+
+        return new PostCursorResDTO(postsResDTOs, nextCursor);
     }
 
-    // 게시물 상세 조회
+    private List<PostSummaryDTO> findLatestBefore(PostCursor postCursor, Pageable pageable) {
+        return postRepository.findLatestBefore(postCursor.createdAt(), postCursor.id(), pageable);
+    }
+
+    // 게시물 상세 조회 (캐시 조회 후 좋아요/조회수는 실시간 값으로 덮어씀)
     public PostResDTO getPost(Long userId, Long postId) {
-        Post post = postRepository.findById(postId)
+        PostDetailDTO post = postDetailCache.get(postId, this::loadPostDetail);
+
+        if (!post.writerId().equals(userId)) {
+            postViewCounter.increase(postId);
+            postTrendingRanker.record(postId, PostTrendingRanker.VIEW_WEIGHT);
+            postCountPublisher.recordView(postId);
+        }
+
+        Long likes = likeCounterRegistry.getActive().getLiveCount(postId, post.likes());
+        long views = post.views() + postViewCounter.getPending(postId);
+        long commentCount = post.commentCount() + postCommentCounter.getPending(postId);
+
+        return post.toPostResDTO(likes, views, commentCount);
+    }
+
+    // 실시간 스트림 초기값 (조회수는 올리지 않음)
+    public PostCountsDTO getPostCounts(Long postId) {
+        PostDetailDTO post = postDetailCache.get(postId, this::loadPostDetail);
+
+        Long likes = likeCounterRegistry.getActive().getLiveCount(postId, post.likes());
+        long views = post.views() + postViewCounter.getPending(postId);
+
+        return new PostCountsDTO(postId, likes, views);
+    }
+
+    private PostDetailDTO loadPostDetail(Long postId) {
+        return postRepository.findByIdWithWriter(postId)
+                .map(PostDetailDTO::from)
                 .orElseThrow(() -> new ResourceNotFoundException(POST_NOT_FOUND));
+    }
+
+    // 인기 게시물 조회 (랭킹은 Redis, 게시물 정보는 한 번의 IN 쿼리로 조회)
+    public List<PostsResDTO> getTrendingPosts(int size) {
+        return toPostsResDTOs(findSummariesInOrder(postTrendingRanker.getTopPostIds(size)));
+    }
+
+    // 게시물 검색 (다른 노드에서 삭제되어 조회되지 않는 게시물은 색인에서 정리)
+    public List<PostsResDTO> searchPosts(String query, int size) {
+        List<Long> postIds = postSearchIndex.search(query, PageSizes.validate(size));
+        List<PostSummaryDTO> summaries = findSummariesInOrder(postIds);
 
-        if (!post.getWriter().getId().equals(userId)) {
-            post.increaseView();
-            postRepository.save(post);
+        if (summaries.size() < postIds.size()) {
+            Set<Long> foundIds = summaries.stream().map(PostSummaryDTO::id).collect(Collectors.toSet());
+            postIds.stream()
+                    .filter(postId -> !foundIds.contains(postId))
+                    .forEach(postSearchIndex::remove);
         }
 
-        return new PostResDTO(postId, post.getWriter().getNickname(), post.getTitle(), post.getDescription(), post.getLikes(), post.getViews());
+        return toPostsResDTOs(summaries);
+    }
+
+    // id 목록 순서대로 게시물 요약 조회 (삭제된 게시물은 제외)
+    private List<PostSummaryDTO> findSummariesInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostSummaryDTO> summaries = postRepository.findSummariesByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostSummaryDTO::id, Function.identity()));
+
+        return postIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 목록 응답 생성 - 좋아요 수는 아직 DB에 반영되지 않은 실시간 값으로 덮어씀 (Redis 전략은 페이지당 MGET 한 번)
+    private List<PostsResDTO> toPostsResDTOs(List<PostSummaryDTO> summaries) {
+        if (summaries.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> storedLikes = summaries.stream()
+                .collect(Collectors.toMap(PostSummaryDTO::id, PostSummaryDTO::likes, (first, second) -> first));
+        Map<Long, Long> liveLikes = likeCounterRegistry.getActive().getLiveCounts(storedLikes);
+
+        return summaries.stream()
+                .map(summary -> summary.toPostsResDTO(liveLikes.getOrDefault(summary.id(), summary.likes())))
+                .toList();
     }
 
     // 작성한 게시물 조회
     public List<PostsResDTO> getMyPosts(Long userId, int page, int size) {
-        getWriter(userId);
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "createdAt"));
-        Page<Post> postPage = postRepository.findByWriterIdWithFetchJoin(userId, pageable);
-
-        return postPage.getContent().stream()
-                .map(post -> new PostsResDTO(
-                        post.getId(),
-                        post.getTitle(),
-                        post.getDescription(),
-                        post.getLikes(),
-                        post.getViews()
-                ))
-                .toList();
+        return toPostsResDTOs(findMyPosts(userId, page, size).getContent());
+    }
+
+    // 작성한 게시물 조회 (다음 페이지 여부 포함)
+    public PostSliceResDTO getMyPostSlice(Long userId, int page, int size) {
+        Slice<PostSummaryDTO> postSlice = findMyPosts(userId, page, size);
+
+        List<PostsResDTO> posts = toPostsResDTOs(postSlice.getContent());
+
+        return new PostSliceResDTO(posts, postSlice.hasNext());
+    }
+
+    private Slice<PostSummaryDTO> findMyPosts(Long userId, int page, int size) {
+        // (writer_id, created_at, id) 인덱스 순서 그대로 정렬
+        Pageable pageable = PageRequest.of(page, PageSizes.validate(size), Sort.by(Sort.Direction.ASC, "createdAt", "id"));
+        Slice<PostSummaryDTO> posts = postRepository.findSliceByWriterId(userId, pageable);
+
+        // 게시물이 있으면 작성자가 있는 것이므로 빈 페이지일 때만 사용자 확인
+        if (posts.isEmpty() && !userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND);
+        }
+        return posts;
     }
 
     private User getWriter(Long userId) {
@@ -124,87 +263,66 @@ public class PostService {
         return post;
     }
 
-    // 좋아요 증가 (Redis)
-    @Transactional
-    public Long increaseLikeRedis(Long userId, Long postId) {
-        String likeKey = LIKE_KEY_PREFIX + postId;
-        String countKey = LIKE_COUNT_KEY_PREFIX + postId;
-        ValueOperations<String, String> valueOps = redisTemplate.opsForValue();
-        SetOperations<String, String> setOps = redisTemplate.opsForSet();
-
-        valueOps.increment(countKey);
-
-//        // Redis에 해당 게시물의 좋아요 데이터가 있는지 확인
-//        String currentLikeCount = valueOps.get(countKey);
-//
-//        if (currentLikeCount != null) {
-//            boolean isAdded = setOps.add(likeKey, userId.toString()) == 1;
-//
-//            if (isAdded) {
-//                valueOps.increment(countKey);
-//            }
-//        } else {
-//            syncLikeCountToRedis(postId);
-//            boolean isAdded = setOps.add(likeKey, userId.toString()) == 1;
-//
-//            if (isAdded) {
-//                valueOps.increment(countKey);
-//            }
-//        }
-//
-//        redisTemplate.expire(countKey, 24, TimeUnit.HOURS);
-
-        return Long.parseLong(valueOps.get(countKey));
-    }
-
-    // Redis 캐시 처리
-    private void syncLikeCountToRedis(Long postId) {
-        String countKey = LIKE_COUNT_KEY_PREFIX + postId;
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException(POST_NOT_FOUND));
+    // 좋아요 (like.counter.strategy 로 선택된 전략 사용)
+    public Long increaseLike(Long userId, Long postId) {
+        LikeResultDTO result = likeCounterRegistry.getActive().increase(userId, postId);
+        // 이미 좋아요한 사용자의 반복 요청은 랭킹 점수와 실시간 스트림에 반영하지 않음
+        if (result.changed()) {
+            postTrendingRanker.record(postId, PostTrendingRanker.LIKE_WEIGHT);
+            postCountPublisher.recordLikes(postId, result.likes());
+        }
 
-        redisTemplate.opsForValue().set(countKey, String.valueOf(post.getLikes()));
+        return result.likes();
     }
 
-    // 좋아요 증가 (Optimistic-Lock)
-    @Transactional
-    public Long increaseLikePessimistic(Long userId, Long postId) {
-        Post post = postRepository.findByIdWithPessimisticLock(postId)
-                .orElseThrow(() -> new ResourceNotFoundException(POST_NOT_FOUND));
-
-        post.updateLikes(post.getLikes() + 1);
-        postRepository.save(post);
+    // 좋아요 취소
+    public Long decreaseLike(Long userId, Long postId) {
+        LikeResultDTO result = likeCounterRegistry.getActive().decrease(userId, postId);
+        if (result.changed()) {
+            postTrendingRanker.record(postId, -PostTrendingRanker.LIKE_WEIGHT);
+            postCountPublisher.recordLikes(postId, result.likes());
+        }
 
-        return post.getLikes();
+        return result.likes();
     }
 
-    @Transactional
-    public Long increaseLikeOptimistic(Long userId, Long postId) {
-        int maxRetry = 100; // 최대 시도 횟수
-        int attempt = 0;    // 현재 시도 횟수
-
-        while (attempt < maxRetry) {
-            try {
-                // 트랜잭션 내에서 좋아요 증가 처리
-                return updateLikeCount(postId);
-            } catch (RuntimeException e) {
-                attempt++;
-                if (attempt >= maxRetry) {
-                    throw new AccessDeniedException(ACCESS_DENIED);
-                }
-            }
+    // 좋아요한 사용자 목록 (Redis 사용자 set 을 SSCAN 으로 한 페이지씩 읽고 사용자 정보는 한 번의 IN 쿼리로 조회)
+    public PostLikersResDTO getLikers(Long postId, String cursor, int size) {
+        int pageSize = PageSizes.validate(size, MAX_LIKERS_PAGE_SIZE);
+        String scanCursor = toScanCursor(cursor);
+        if (!postRepository.existsById(postId)) {
+            throw new ResourceNotFoundException(POST_NOT_FOUND);
+        }
+
+        PostLikeRedisRepository.LikerPage page = postLikeRedisRepository.scanLikers(postId, scanCursor, pageSize);
+        if (page.userIds().isEmpty()) {
+            return new PostLikersResDTO(List.of(), page.nextCursor());
         }
 
-        // 실패할 경우 기본값 반환 (일반적으로 여기 도달하지 않음)
-        throw new IllegalStateException("Unexpected state in like update process.");
+        Map<Long, UserSummaryDTO> users = userRepository.findSummariesByIdIn(page.userIds()).stream()
+                .collect(Collectors.toMap(UserSummaryDTO::userId, Function.identity()));
+
+        // 탈퇴한 사용자는 제외
+        List<UserSummaryDTO> likers = page.userIds().stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PostLikersResDTO(likers, page.nextCursor());
     }
 
-    @Transactional
-    public Long updateLikeCount(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException(POST_NOT_FOUND));
+    // SSCAN 커서는 부호 없는 64비트 정수, 첫 페이지는 "0" (샤드 모드 게시물은 "{set 순번}.{SSCAN 커서}")
+    private String toScanCursor(String cursor) {
+        if (cursor == null) {
+            return "0";
+        }
 
-        post.updateLikes(post.getLikes() + 1); // 좋아요 증가
-        return post.getLikes();
+        int separator = cursor.indexOf('.');
+        try {
+            String scanCursor = Long.toUnsignedString(Long.parseUnsignedLong(cursor.substring(separator + 1)));
+            return separator < 0 ? scanCursor : Integer.parseUnsignedInt(cursor.substring(0, separator)) + "." + scanCursor;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(ErrorCode.INVALID_CURSOR);
+        }
     }
-}
\ No newline at end of file
+}
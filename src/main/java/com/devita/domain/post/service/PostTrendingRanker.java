@@ -0,0 +1,120 @@
+package com.devita.domain.post.service;
+
+import com.devita.common.counter.BufferedCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 인기 게시물 랭킹 - 시간 감쇠 점수를 Redis zset(post:trending)에 누적
+// 이벤트 시각 t 의 점수를 weight * e^(λ(t - epoch)) 로 더해서 기존 점수를 건드리지 않고 감쇠 효과를 냄
+// 점수가 계속 커지므로 주기적으로 epoch 를 현재로 옮기면서 전체 점수를 다시 조정
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostTrendingRanker {
+
+    public static final long VIEW_WEIGHT = 1L;
+    public static final long LIKE_WEIGHT = 3L;
+    // 한 번에 조회할 수 있는 최대 게시물 수 (0 이하를 넘기면 zset 전체를 읽게 되므로 하한도 둠)
+    public static final int MAX_TOP_SIZE = 100;
+
+    private static final String TRENDING_KEY = "post:trending";
+    private static final String EPOCH_KEY = "post:trending:epoch";
+    private static final byte[] TRENDING_KEY_BYTES = TRENDING_KEY.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<Long> trendingRescaleScript;
+    // Redis 왕복을 줄이기 위해 노드에서 모아둔 가중치
+    private final BufferedCounter pendingWeights = new BufferedCounter();
+
+    @Value("${post.trending.half-life-hours:6}")
+    private double halfLifeHours;
+
+    @Value("${post.trending.min-score:0.01}")
+    private double minScore;
+
+    @Value("${post.trending.max-size:10000}")
+    private int maxSize;
+
+    public void record(Long postId, long weight) {
+        pendingWeights.add(postId, weight);
+    }
+
+    public void remove(Long postId) {
+        pendingWeights.remove(postId);
+        redisTemplate.opsForZSet().remove(TRENDING_KEY, postId.toString());
+    }
+
+    // 점수 상위 size 개 게시물 id (O(log n + size), size 는 1 ~ MAX_TOP_SIZE 로 제한)
+    public List<Long> getTopPostIds(int size) {
+        int count = Math.clamp(size, 1, MAX_TOP_SIZE);
+        Set<String> postIds = redisTemplate.opsForZSet().reverseRange(TRENDING_KEY, 0, count - 1);
+        if (postIds == null) {
+            return List.of();
+        }
+
+        return postIds.stream()
+                .map(Long::parseLong)
+                .toList();
+    }
+
+    // 모아둔 가중치를 현재 epoch 기준 점수로 바꿔서 파이프라인으로 반영
+    @Scheduled(fixedDelayString = "${post.trending.flush-interval-ms:2000}")
+    public void flush() {
+        Map<Long, Long> weights = pendingWeights.drain();
+        if (weights.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        double boost = Math.exp(decayPerMillis() * (now - getEpoch(now)));
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            weights.forEach((postId, weight) -> zIncrBy(connection, postId, weight * boost));
+            return null;
+        });
+    }
+
+    // 점수가 무한히 커지지 않도록 epoch 를 현재로 옮기고 오래된 게시물 정리
+    @Scheduled(fixedDelayString = "${post.trending.rescale-interval-ms:600000}")
+    public void rescale() {
+        Long remaining = redisTemplate.execute(
+                trendingRescaleScript,
+                List.of(TRENDING_KEY, EPOCH_KEY),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(decayPerMillis()),
+                String.valueOf(minScore),
+                String.valueOf(maxSize)
+        );
+        log.debug("인기 게시물 점수 재조정 완료: {}건", remaining);
+    }
+
+    private long getEpoch(long now) {
+        String epoch = redisTemplate.opsForValue().get(EPOCH_KEY);
+        if (epoch != null) {
+            return Long.parseLong(epoch);
+        }
+
+        redisTemplate.opsForValue().setIfAbsent(EPOCH_KEY, String.valueOf(now));
+        return Long.parseLong(redisTemplate.opsForValue().get(EPOCH_KEY));
+    }
+
+    private double decayPerMillis() {
+        return Math.log(2) / (halfLifeHours * 60 * 60 * 1000);
+    }
+
+    private void zIncrBy(RedisConnection connection, Long postId, double score) {
+        connection.zSetCommands().zIncrBy(TRENDING_KEY_BYTES, score, postId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,60 @@
+package com.devita.domain.post.service;
+
+import com.devita.common.counter.DurableBufferedCounter;
+import com.devita.domain.post.repository.PostJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+// 조회수 write-behind 버퍼 - 조회마다 엔티티를 저장하지 않고 주기적으로 일괄 반영
+// 증감분은 로컬 로그 파일에도 기록되어 비정상 종료 후 재기동 시 복구됨
+@Component
+@Slf4j
+public class PostViewCounter {
+
+    private final PostJdbcRepository postJdbcRepository;
+    private final PostDetailCache postDetailCache;
+    private final DurableBufferedCounter buffer;
+
+    public PostViewCounter(PostJdbcRepository postJdbcRepository,
+                           PostDetailCache postDetailCache,
+                           @Value("${counter.log.dir:data/counter-log}") String logDirectory,
+                           @Value("${counter.log.segment-bytes:16777216}") int segmentBytes) {
+        this.postJdbcRepository = postJdbcRepository;
+        this.postDetailCache = postDetailCache;
+        this.buffer = new DurableBufferedCounter(Path.of(logDirectory), "post-view", segmentBytes);
+    }
+
+    public void increase(Long postId) {
+        buffer.add(postId, 1L);
+    }
+
+    // DB에 아직 반영되지 않은 조회수
+    public long getPending(Long postId) {
+        return buffer.getPending(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${post.view.flush-interval-ms:10000}")
+    public void flush() {
+        try {
+            buffer.flush(deltas -> {
+                postJdbcRepository.addViews(deltas);
+                postDetailCache.evictAll(deltas.keySet());
+                log.debug("조회수 반영 완료: {}건", deltas.size());
+            });
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기에 다시 시도
+            log.error("조회수 반영 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        buffer.close();
+    }
+}
@@ -0,0 +1,383 @@
+package com.devita.domain.post.service.like;
+
+import com.devita.common.exception.ResourceNotFoundException;
+import com.devita.common.util.SingleRunExecutor;
+import com.devita.domain.post.dto.LikeResultDTO;
+import com.devita.domain.post.repository.PostLikeRedisRepository;
+import com.devita.domain.post.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.devita.common.exception.ErrorCode.POST_NOT_FOUND;
+
+// 노드별 PN-counter 로 좋아요를 모아두고 주기적으로 Redis 에 상태를 병합 (좋아요 요청마다 Redis 를 호출하지 않음)
+// 병합 결과는 기존 좋아요 수 키에 반영되므로 DB는 그대로 LikeSyncScheduler 가 동기화
+// 중복 좋아요/취소는 병합할 때 사용자 set 으로 걸러서 상쇄 (그 전까지 응답의 좋아요 수는 최대 병합 주기만큼 어긋날 수 있음)
+// 병합은 게시물 여러 개씩 파이프라인으로 실행
+@Component
+@Slf4j
+public class CrdtLikeCounter implements LikeCounter {
+
+    private static final int MERGE_CHUNK_SIZE = 100;
+    // 한 주기에 다른 노드의 병합 결과를 다시 읽는 최대 게시물 수
+    private static final int MAX_REFRESH_PER_CYCLE = 1000;
+    // 게시물마다 종료된 노드의 상태 field 를 정리하는 주기
+    private static final long PRUNE_INTERVAL_MILLIS = Duration.ofMinutes(10).toMillis();
+
+    private final PostLikeRedisRepository postLikeRedisRepository;
+    private final PostRepository postRepository;
+    private final String nodeId;
+    private final Duration idleTimeout;
+    private final Duration stateTtl;
+    private final long refreshIntervalMillis;
+    private final Map<Long, NodeState> states = new ConcurrentHashMap<>();
+    // 게시물 상태를 새로 만들 때마다 증가 (정리된 뒤 다시 만든 상태가 이전 누적값과 섞이지 않도록 field 를 구분)
+    private final AtomicLong epochs = new AtomicLong();
+    private final SingleRunExecutor executor = new SingleRunExecutor("like-crdt-merge", "좋아요 상태 병합");
+
+    public CrdtLikeCounter(PostLikeRedisRepository postLikeRedisRepository,
+                           PostRepository postRepository,
+                           @Value("${like.crdt.node-id:}") String nodeId,
+                           @Value("${like.crdt.idle-timeout-seconds:600}") long idleTimeoutSeconds,
+                           @Value("${like.crdt.state-ttl-hours:24}") long stateTtlHours,
+                           @Value("${like.crdt.refresh-interval-ms:1000}") long refreshIntervalMillis) {
+        this.postLikeRedisRepository = postLikeRedisRepository;
+        this.postRepository = postRepository;
+        // 재시작한 노드가 이전 실행의 누적값을 이어받지 않도록 설정하지 않으면 실행마다 새로 발급
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId + ":" + UUID.randomUUID();
+        this.idleTimeout = Duration.ofSeconds(idleTimeoutSeconds);
+        this.stateTtl = Duration.ofHours(stateTtlHours);
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    @Override
+    public String getName() {
+        return "crdt";
+    }
+
+    @Override
+    public boolean isUserUnique() {
+        return true;
+    }
+
+    @Override
+    public LikeResultDTO increase(Long userId, Long postId) {
+        return record(postId, userId, true);
+    }
+
+    @Override
+    public LikeResultDTO decrease(Long userId, Long postId) {
+        return record(postId, userId, false);
+    }
+
+    @Override
+    public Long getCount(Long postId) {
+        NodeState state = states.get(postId);
+        if (state != null) {
+            return state.getCount();
+        }
+
+        Long likes = postLikeRedisRepository.getCounts(List.of(postId)).get(postId);
+        return likes != null ? likes : getPostLikes(postId);
+    }
+
+    @Override
+    public Long getLiveCount(Long postId, Long storedLikes) {
+        NodeState state = states.get(postId);
+        if (state != null) {
+            return state.getCount();
+        }
+
+        Long likes = postLikeRedisRepository.getCounts(List.of(postId)).get(postId);
+        return likes != null ? likes : storedLikes;
+    }
+
+    // 병합된 좋아요 수를 MGET 한 번으로 읽고 이 노드에서 아직 병합하지 않은 증감분을 더함
+    @Override
+    public Map<Long, Long> getLiveCounts(Map<Long, Long> storedLikes) {
+        Map<Long, Long> liveLikes = new HashMap<>(storedLikes);
+        liveLikes.putAll(postLikeRedisRepository.getCounts(List.copyOf(storedLikes.keySet())));
+
+        liveLikes.replaceAll((postId, likes) -> {
+            NodeState state = states.get(postId);
+            return state == null ? likes : likes + state.getUnmerged();
+        });
+
+        return liveLikes;
+    }
+
+    @Override
+    public void flush() {
+        merge();
+    }
+
+    @Scheduled(fixedDelayString = "${like.crdt.merge-interval-ms:200}")
+    public void schedule() {
+        executor.execute(this::merge);
+    }
+
+    // 종료 전에 남은 기록을 병합하고, 더 이상 쓰지 않을 이 노드의 상태 field 정리
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        merge();
+
+        Map<Long, String> nodeFields = new HashMap<>();
+        states.forEach((postId, state) -> {
+            if (!state.hasChanges()) {
+                nodeFields.put(postId, state.field);
+            }
+        });
+        postLikeRedisRepository.removeNodeStates(nodeFields);
+    }
+
+    // 변경된 게시물의 노드 상태를 Redis 에 병합하고, 변경이 없는 게시물은 다른 노드의 병합 결과만 주기적으로 다시 읽음
+    public synchronized void merge() {
+        long now = System.currentTimeMillis();
+        List<Long> changedPostIds = new ArrayList<>();
+        List<Long> unchangedPostIds = new ArrayList<>();
+        states.forEach((postId, state) -> (state.hasChanges() ? changedPostIds : unchangedPostIds).add(postId));
+
+        for (int from = 0; from < changedPostIds.size(); from += MERGE_CHUNK_SIZE) {
+            try {
+                mergeStates(changedPostIds.subList(from, Math.min(from + MERGE_CHUNK_SIZE, changedPostIds.size())), now);
+            } catch (RuntimeException e) {
+                // 보내지 못한 기록은 같은 배치 번호로 다음 주기에 다시 보냄
+                log.error("좋아요 상태 병합 중 오류 발생: {}", e.getMessage());
+            }
+        }
+
+        refresh(unchangedPostIds, now);
+        evictIdle(unchangedPostIds, now);
+    }
+
+    private LikeResultDTO record(Long postId, Long userId, boolean like) {
+        while (true) {
+            NodeState state = getOrCreateState(postId);
+            state.writers.incrementAndGet();
+            try {
+                // 정리 중인 상태면 새 상태가 만들어질 때까지 다시 시도
+                if (!state.retired) {
+                    boolean changed = state.record(userId, like);
+                    return new LikeResultDTO(state.getCount(), changed);
+                }
+            } finally {
+                state.writers.decrementAndGet();
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    // 처음 좋아요가 들어온 게시물만 병합된 좋아요 수를 한 번 읽어서 상태를 만듦
+    private NodeState getOrCreateState(Long postId) {
+        NodeState state = states.get(postId);
+        if (state != null) {
+            return state;
+        }
+
+        Long likes = postLikeRedisRepository.getCounts(List.of(postId)).get(postId);
+        long mergedCount = likes != null ? likes : getPostLikes(postId);
+        return states.computeIfAbsent(postId, id -> new NodeState(nodeId + ":" + epochs.incrementAndGet(), mergedCount));
+    }
+
+    private void mergeStates(List<Long> postIds, long now) {
+        List<NodeState> merging = new ArrayList<>(postIds.size());
+        List<PostLikeRedisRepository.NodeMerge> merges = new ArrayList<>(postIds.size());
+        for (Long postId : postIds) {
+            NodeState state = states.get(postId);
+            if (state == null) {
+                continue;
+            }
+
+            state.prepareBatch();
+            // 게시물마다 가끔씩만 정리해서 병합할 때마다 hash 전체를 읽지 않도록 함
+            Long pruneBefore = now - state.lastPrunedAt >= PRUNE_INTERVAL_MILLIS ? now - stateTtl.toMillis() : null;
+            merging.add(state);
+            merges.add(new PostLikeRedisRepository.NodeMerge(postId, state.field, state.likes.sum(), state.unlikes.sum(),
+                    state.sequence, state.batch, pruneBefore));
+        }
+
+        List<Long> counts = postLikeRedisRepository.mergeNodeStates(merges, stateTtl);
+        for (int i = 0; i < merges.size(); i++) {
+            PostLikeRedisRepository.NodeMerge merge = merges.get(i);
+            NodeState state = merging.get(i);
+            try {
+                Long count = counts.get(i);
+                // Redis 에 좋아요 수가 없으면 DB 값으로 초기화하면서 다시 병합
+                if (count == null) {
+                    count = postLikeRedisRepository.mergeNodeState(merge, getPostLikes(merge.postId()), stateTtl);
+                }
+
+                state.merged(merge.likes(), merge.unlikes(), count, now);
+                if (merge.pruneBefore() != null) {
+                    state.lastPrunedAt = now;
+                }
+            } catch (RuntimeException e) {
+                log.error("좋아요 상태 병합 중 오류 발생: postId={}, {}", merge.postId(), e.getMessage());
+            }
+        }
+    }
+
+    // 마지막으로 읽은 지 refreshIntervalMillis 가 지난 게시물만 한 주기에 MAX_REFRESH_PER_CYCLE 개까지 다시 읽음
+    private void refresh(List<Long> postIds, long now) {
+        List<Long> refreshing = postIds.stream()
+                .filter(postId -> {
+                    NodeState state = states.get(postId);
+                    return state != null && now - state.refreshedAt >= refreshIntervalMillis;
+                })
+                .limit(MAX_REFRESH_PER_CYCLE)
+                .toList();
+        if (refreshing.isEmpty()) {
+            return;
+        }
+
+        try {
+            postLikeRedisRepository.getCounts(refreshing).forEach((postId, likes) -> {
+                NodeState state = states.get(postId);
+                if (state != null) {
+                    state.mergedCount = likes;
+                }
+            });
+            refreshing.forEach(postId -> {
+                NodeState state = states.get(postId);
+                if (state != null) {
+                    state.refreshedAt = now;
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // 한동안 좋아요가 없던 게시물 상태 정리 (정리하는 동안 들어온 기록이 있으면 유지)
+    // 정리한 상태의 field 는 다시 병합되지 않으므로 Redis 에서도 삭제
+    private void evictIdle(List<Long> postIds, long now) {
+        Map<Long, String> evictedFields = new HashMap<>();
+        for (Long postId : postIds) {
+            NodeState state = states.get(postId);
+            if (state == null || now - state.lastRecordedAt < idleTimeout.toMillis()) {
+                continue;
+            }
+
+            state.retired = true;
+            while (state.writers.get() != 0) {
+                Thread.onSpinWait();
+            }
+
+            if (state.hasChanges()) {
+                state.retired = false;
+            } else if (states.remove(postId, state)) {
+                evictedFields.put(postId, state.field);
+            }
+        }
+
+        try {
+            postLikeRedisRepository.removeNodeStates(evictedFields);
+        } catch (RuntimeException e) {
+            // 남은 field 는 다른 노드가 병합할 때 오래된 field 로 정리됨
+            log.warn("좋아요 노드 상태 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private Long getPostLikes(Long postId) {
+        return postRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException(POST_NOT_FOUND))
+                .getLikes();
+    }
+
+    // 한 게시물에 대한 이 노드의 상태
+    private static final class NodeState {
+        // Redis 노드 상태 hash 의 field prefix
+        private final String field;
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder unlikes = new LongAdder();
+        // 아직 병합하지 않은 사용자 기록 (+userId / -userId)
+        private final ConcurrentLinkedQueue<String> userOps = new ConcurrentLinkedQueue<>();
+        // 이 상태에 기록된 사용자별 마지막 요청 (true: 좋아요) - 같은 요청 반복은 변경 없음으로 응답
+        private final Map<Long, Boolean> lastOps = new ConcurrentHashMap<>();
+        private final AtomicInteger writers = new AtomicInteger();
+        private volatile boolean retired;
+        private volatile long lastRecordedAt = System.currentTimeMillis();
+
+        // 마지막 병합 결과
+        private volatile long mergedCount;
+        private volatile long mergedLikes;
+        private volatile long mergedUnlikes;
+        // 마지막으로 병합했거나 다른 노드의 병합 결과를 읽은 시각
+        private volatile long refreshedAt = System.currentTimeMillis();
+        private long lastPrunedAt;
+
+        // 병합 중인 사용자 기록 배치 (성공할 때까지 같은 번호로 재전송)
+        private List<String> batch = List.of();
+        private long sequence;
+
+        private NodeState(String field, long mergedCount) {
+            this.field = field;
+            this.mergedCount = mergedCount;
+        }
+
+        // 카운터를 먼저 올려서, 병합할 때 꺼낸 기록은 항상 누적값에 포함되도록 함
+        // 중복 여부는 병합할 때 사용자 set 으로 확정되므로 여기서는 이 노드에서 본 직전 요청과 같은지만 반환
+        // (반복 요청은 기록은 하되 병합 때 상쇄되므로 변경 없음으로 봄)
+        private boolean record(Long userId, boolean like) {
+            (like ? likes : unlikes).increment();
+            userOps.add((like ? "+" : "-") + userId);
+            lastRecordedAt = System.currentTimeMillis();
+
+            Boolean previous = lastOps.put(userId, like);
+            return previous == null || previous != like;
+        }
+
+        private long getUnmerged() {
+            return (likes.sum() - mergedLikes) - (unlikes.sum() - mergedUnlikes);
+        }
+
+        private long getCount() {
+            return mergedCount + getUnmerged();
+        }
+
+        private boolean hasChanges() {
+            return !batch.isEmpty() || !userOps.isEmpty()
+                    || likes.sum() != mergedLikes || unlikes.sum() != mergedUnlikes;
+        }
+
+        private void prepareBatch() {
+            if (!batch.isEmpty()) {
+                return;
+            }
+
+            List<String> ops = new ArrayList<>();
+            String op;
+            while ((op = userOps.poll()) != null) {
+                ops.add(op);
+            }
+            if (!ops.isEmpty()) {
+                batch = ops;
+                sequence++;
+            }
+        }
+
+        private void merged(long likes, long unlikes, long count, long now) {
+            batch = List.of();
+            refreshedAt = now;
+            mergedLikes = likes;
+            mergedUnlikes = unlikes;
+            mergedCount = count;
+        }
+    }
+}
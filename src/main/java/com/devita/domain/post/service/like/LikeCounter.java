@@ -0,0 +1,44 @@
+package com.devita.domain.post.service.like;
+
+import com.devita.domain.post.dto.LikeResultDTO;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 게시물 좋아요 수 처리 전략 (like.counter.strategy 설정으로 선택)
+public interface LikeCounter {
+
+    // 설정 값으로 사용하는 전략 이름
+    String getName();
+
+    // 좋아요 후 좋아요 수와 변경 여부 반환
+    LikeResultDTO increase(Long userId, Long postId);
+
+    // 좋아요 취소 후 좋아요 수와 변경 여부 반환
+    LikeResultDTO decrease(Long userId, Long postId);
+
+    // 현재 좋아요 수
+    Long getCount(Long postId);
+
+    // 사용자별 좋아요 여부를 관리해서 같은 사용자의 중복 좋아요/취소를 걸러내는지
+    // (그렇지 않은 전략은 처리 방식 비교용으로 benchmark 프로필에서만 사용)
+    default boolean isUserUnique() {
+        return false;
+    }
+
+    // 캐시 등에 저장된 좋아요 수에 아직 DB에 반영되지 않은 값을 덮어씀
+    default Long getLiveCount(Long postId, Long storedLikes) {
+        return storedLikes;
+    }
+
+    // 목록 조회용 - 게시물별 저장된 좋아요 수를 실시간 값으로 덮어씀 (Redis 전략은 한 번의 MGET 으로 처리)
+    default Map<Long, Long> getLiveCounts(Map<Long, Long> storedLikes) {
+        Map<Long, Long> liveLikes = new HashMap<>();
+        storedLikes.forEach((postId, likes) -> liveLikes.put(postId, getLiveCount(postId, likes)));
+        return liveLikes;
+    }
+
+    // 버퍼링하는 전략은 쌓인 증감분을 DB에 반영
+    default void flush() {
+    }
+}
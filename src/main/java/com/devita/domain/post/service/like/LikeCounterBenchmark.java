@@ -0,0 +1,115 @@
+package com.devita.domain.post.service.like;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 좋아요 전략 벤치마크 - 하나의 게시물에 N개 스레드로 좋아요를 몰아넣고 처리량, p99 지연, 유실 건수를 비교
+// 게시물 좋아요 수를 실제로 변경하므로 benchmark 프로필을 켠 테스트 환경에서만 실행
+@Component
+@Profile("benchmark")
+@RequiredArgsConstructor
+@Slf4j
+public class LikeCounterBenchmark implements ApplicationRunner {
+
+    private final LikeCounterRegistry likeCounterRegistry;
+
+    @Value("${like.benchmark.post-id}")
+    private Long postId;
+
+    @Value("${like.benchmark.threads:32}")
+    private int threads;
+
+    @Value("${like.benchmark.requests-per-thread:200}")
+    private int requestsPerThread;
+
+    // Redis 전략의 결과가 동기화 배치로 DB 전략 측정에 섞이지 않도록 redis, crdt 를 마지막에 실행
+    @Value("${like.benchmark.strategies:memory,pessimistic-lock,optimistic-lock,redis,crdt}")
+    private List<String> strategies;
+
+    // 사용자별 중복 좋아요가 걸러지지 않도록 벤치마크 전용 사용자 id 대역 사용
+    @Value("${like.benchmark.user-id-offset:1000000000}")
+    private long userIdOffset;
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        List<Result> results = new ArrayList<>();
+        for (String strategy : strategies) {
+            results.add(measure(likeCounterRegistry.get(strategy)));
+        }
+
+        log.info("like counter benchmark - postId={}, threads={}, requests/thread={}", postId, threads, requestsPerThread);
+        log.info(String.format("%-18s %12s %12s %10s %8s", "strategy", "ops/s", "p99(ms)", "errors", "lost"));
+        results.forEach(result -> log.info(String.format("%-18s %12.1f %12.2f %10d %8d",
+                result.strategy(), result.throughput(), result.p99Millis(), result.errors(), result.lostUpdates())));
+    }
+
+    private Result measure(LikeCounter likeCounter) throws InterruptedException {
+        likeCounter.flush();
+        long initialCount = likeCounter.getCount(postId);
+
+        long[] latencies = new long[threads * requestsPerThread];
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        int index = thread * requestsPerThread + i;
+                        long begin = System.nanoTime();
+                        try {
+                            likeCounter.increase(userIdOffset + index, postId);
+                            succeeded.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[index] = System.nanoTime() - begin;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        likeCounter.flush();
+        long finalCount = likeCounter.getCount(postId);
+
+        Arrays.sort(latencies);
+        double p99Millis = latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / 1_000_000.0;
+        double throughput = succeeded.get() / (elapsed / 1_000_000_000.0);
+        long lostUpdates = succeeded.get() - (finalCount - initialCount);
+
+        return new Result(likeCounter.getName(), throughput, p99Millis, errors.get(), lostUpdates);
+    }
+
+    private record Result(String strategy, double throughput, double p99Millis, long errors, long lostUpdates) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.devita.domain.post.service.like;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class LikeCounterRegistry {
+
+    private final Map<String, LikeCounter> likeCounters;
+    private final LikeCounter activeLikeCounter;
+
+    public LikeCounterRegistry(List<LikeCounter> likeCounters,
+                               @Value("${like.counter.strategy:redis}") String strategy,
+                               Environment environment) {
+        this.likeCounters = likeCounters.stream()
+                .collect(Collectors.toMap(LikeCounter::getName, Function.identity()));
+        this.activeLikeCounter = get(strategy);
+
+        // 사용자별 중복을 걸러내지 않는 전략은 같은 사용자가 좋아요 수를 계속 올릴 수 있으므로 벤치마크에서만 허용
+        if (!activeLikeCounter.isUserUnique() && !environment.acceptsProfiles(Profiles.of("benchmark"))) {
+            throw new IllegalStateException("Like counter strategy " + strategy
+                    + " does not track users and is only available with the benchmark profile");
+        }
+    }
+
+    // 설정된 전략
+    public LikeCounter getActive() {
+        return activeLikeCounter;
+    }
+
+    public LikeCounter get(String name) {
+        LikeCounter likeCounter = likeCounters.get(name);
+        if (likeCounter == null) {
+            throw new IllegalStateException("Unknown like counter strategy: " + name + ", available: " + likeCounters.keySet());
+        }
+        return likeCounter;
+    }
+
+    public Collection<LikeCounter> getAll() {
+        return likeCounters.values();
+    }
+}
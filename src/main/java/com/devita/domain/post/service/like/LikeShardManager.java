@@ -0,0 +1,145 @@
+package com.devita.domain.post.service.like;
+
+import com.devita.common.counter.BufferedCounter;
+import com.devita.common.util.SingleRunExecutor;
+import com.devita.domain.post.repository.PostLikeRedisRepository;
+import com.devita.domain.post.repository.PostLikeRedisRepository.ShardLayout;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// 좋아요 요청이 몰리는 게시물의 사용자 set 과 좋아요 수를 여러 샤드 키로 나눔 (redis 전략)
+// 노드별 게시물 요청 수가 샤드 하나당 max-rate-per-key 를 넘으면 샤드 수를 2배씩 늘리고 (최대 max-shards)
+// 다른 노드가 새 배치를 읽을 시간(배치 캐시 TTL 의 2배)이 지난 뒤 이전 배치의 사용자를 새 샤드로 옮김
+// 샤드 모드 게시물의 좋아요 수는 샤드 합계라서 응답에는 sum-cache-millis 동안 캐시한 합계에 이 노드의 증감분만 더해서 반환
+@Component
+@Slf4j
+public class LikeShardManager {
+
+    // 한 번에 샤드마다 옮기는 최대 사용자 수
+    private static final int MIGRATE_BATCH_SIZE = 500;
+
+    private final PostLikeRedisRepository postLikeRedisRepository;
+    private final long maxRatePerKey;
+    private final int maxShards;
+    private final long settleDelayMillis;
+    // 직전 1초 동안 게시물별 좋아요 요청 수
+    private final BufferedCounter requests = new BufferedCounter();
+    // 게시물별 샤드 배치 (샤드 모드가 아니면 UNSHARDED), 다른 노드가 바꾼 배치는 TTL 안에 반영
+    private final Cache<Long, ShardLayout> layouts;
+    // 샤드 모드 게시물의 좋아요 수 합계
+    private final Cache<Long, Long> sums;
+    private final SingleRunExecutor executor = new SingleRunExecutor("like-shard-migrate", "좋아요 샤드 이동");
+
+    public LikeShardManager(PostLikeRedisRepository postLikeRedisRepository,
+                            @Value("${like.shard.max-rate-per-key:500}") long maxRatePerKey,
+                            @Value("${like.shard.max-shards:16}") int maxShards,
+                            @Value("${like.shard.layout-cache-seconds:5}") long layoutCacheSeconds,
+                            @Value("${like.shard.sum-cache-millis:1000}") long sumCacheMillis) {
+        this.postLikeRedisRepository = postLikeRedisRepository;
+        this.maxRatePerKey = maxRatePerKey;
+        this.maxShards = maxShards;
+        this.settleDelayMillis = Duration.ofSeconds(layoutCacheSeconds).multipliedBy(2).toMillis();
+        this.layouts = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(layoutCacheSeconds))
+                .build();
+        this.sums = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMillis(sumCacheMillis))
+                .build();
+    }
+
+    public void recordRequest(Long postId) {
+        requests.add(postId, 1L);
+    }
+
+    public ShardLayout getLayout(Long postId) {
+        return layouts.get(postId, id -> postLikeRedisRepository.getShardLayouts(List.of(id))
+                .getOrDefault(id, ShardLayout.UNSHARDED));
+    }
+
+    // 캐시한 합계가 없으면 loader 로 읽음 (loader 가 null 을 반환하면 캐시하지 않음)
+    public Long getSum(Long postId, Function<Long, Long> loader) {
+        return sums.get(postId, loader);
+    }
+
+    // 이 노드에서 반영한 증감분은 캐시한 합계에도 바로 더함
+    public void applyDelta(Long postId, long delta) {
+        sums.asMap().computeIfPresent(postId, (id, sum) -> sum + delta);
+    }
+
+    // 직전 1초의 요청 수로 필요한 샤드 수를 계산해서 늘림
+    @Scheduled(fixedRate = 1000)
+    public void adjustShardCounts() {
+        Map<Long, Long> counts = requests.drain();
+        requests.release();
+
+        counts.forEach((postId, count) -> {
+            ShardLayout layout = getLayout(postId);
+            int target = targetShards(count);
+            if (target <= layout.shards() || layout.isMigrating()) {
+                return;
+            }
+
+            try {
+                layouts.put(postId, postLikeRedisRepository.growShards(postId, target));
+            } catch (RuntimeException e) {
+                layouts.invalidate(postId);
+                log.error("좋아요 샤드 확장 중 오류 발생: postId={}", postId, e);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void migrateShards() {
+        executor.execute(this::migrate);
+    }
+
+    void migrate() {
+        long now = System.currentTimeMillis();
+
+        for (Long postId : postLikeRedisRepository.getMigratingPostIds()) {
+            ShardLayout layout = postLikeRedisRepository.getShardLayouts(List.of(postId)).get(postId);
+            // 배치 캐시가 아직 이전 배치인 노드가 있으면 옮긴 뒤에 이전 샤드에 다시 기록할 수 있으므로 기다림
+            if (layout == null || !layout.isMigrating() || now - layout.grownAt() < settleDelayMillis) {
+                continue;
+            }
+
+            while (!postLikeRedisRepository.migrateShards(postId, layout, MIGRATE_BATCH_SIZE)) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+
+            if (postLikeRedisRepository.settleShards(postId, layout)) {
+                layouts.invalidate(postId);
+                log.info("좋아요 샤드 확장 완료: postId={}, shards={}", postId, layout.shards());
+            }
+        }
+    }
+
+    // 샤드 하나당 요청 수가 maxRatePerKey 이하가 되는 2의 거듭제곱 (최대 maxShards)
+    int targetShards(long requestsPerSecond) {
+        long needed = Math.max(1L, (requestsPerSecond + maxRatePerKey - 1) / maxRatePerKey);
+        long shards = Long.highestOneBit(needed);
+        if (shards < needed) {
+            shards <<= 1;
+        }
+        return (int) Math.min(shards, maxShards);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,105 @@
+package com.devita.domain.post.service.like;
+
+import com.devita.common.counter.DurableBufferedCounter;
+import com.devita.common.exception.ResourceNotFoundException;
+import com.devita.domain.post.dto.LikeResultDTO;
+import com.devita.domain.post.repository.PostJdbcRepository;
+import com.devita.domain.post.repository.PostRepository;
+import com.devita.domain.post.service.PostDetailCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static com.devita.common.exception.ErrorCode.POST_NOT_FOUND;
+
+// 노드 메모리에 증감분을 모아두고 주기적으로 DB에 일괄 반영 (다른 노드의 증감분은 반영 후에 보임)
+// 증감분은 로컬 로그 파일에도 기록되어 비정상 종료 후 재기동 시 복구됨
+// 사용자별 중복을 걸러내지 않으므로 benchmark 프로필에서 처리 방식 비교용으로만 사용
+@Component
+@Slf4j
+public class MemoryLikeCounter implements LikeCounter {
+
+    private final PostRepository postRepository;
+    private final PostJdbcRepository postJdbcRepository;
+    private final PostDetailCache postDetailCache;
+    private final DurableBufferedCounter buffer;
+    // 마지막으로 읽은 DB 좋아요 수 (반영되지 않은 게시물이 계속 쌓이지 않도록 크기/TTL 제한)
+    private final Cache<Long, Long> baselines = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public MemoryLikeCounter(PostRepository postRepository,
+                             PostJdbcRepository postJdbcRepository,
+                             PostDetailCache postDetailCache,
+                             @Value("${counter.log.dir:data/counter-log}") String logDirectory,
+                             @Value("${counter.log.segment-bytes:16777216}") int segmentBytes) {
+        this.postRepository = postRepository;
+        this.postJdbcRepository = postJdbcRepository;
+        this.postDetailCache = postDetailCache;
+        this.buffer = new DurableBufferedCounter(Path.of(logDirectory), "post-like", segmentBytes);
+    }
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+
+    @Override
+    public LikeResultDTO increase(Long userId, Long postId) {
+        Long baseline = getBaseline(postId);
+        buffer.add(postId, 1L);
+        return new LikeResultDTO(baseline + buffer.getPending(postId), true);
+    }
+
+    @Override
+    public LikeResultDTO decrease(Long userId, Long postId) {
+        Long baseline = getBaseline(postId);
+        buffer.add(postId, -1L);
+        return new LikeResultDTO(baseline + buffer.getPending(postId), true);
+    }
+
+    @Override
+    public Long getCount(Long postId) {
+        return getBaseline(postId) + buffer.getPending(postId);
+    }
+
+    @Override
+    public Long getLiveCount(Long postId, Long storedLikes) {
+        return storedLikes + buffer.getPending(postId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${like.counter.memory.flush-interval-ms:1000}")
+    public void flush() {
+        try {
+            buffer.flush(deltas -> {
+                postJdbcRepository.addLikes(deltas);
+                // 반영된 게시물은 다음 요청에서 DB 값을 다시 읽음 (상세 캐시의 좋아요 수 + 버퍼로 계산하므로 캐시도 비움)
+                baselines.invalidateAll(deltas.keySet());
+                postDetailCache.evictAll(deltas.keySet());
+            });
+        } catch (Exception e) {
+            log.error("좋아요 수 반영 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        buffer.close();
+    }
+
+    private Long getBaseline(Long postId) {
+        return baselines.get(postId, id -> postRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(POST_NOT_FOUND))
+                .getLikes());
+    }
+}
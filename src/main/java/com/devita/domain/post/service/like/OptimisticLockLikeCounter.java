@@ -0,0 +1,93 @@
+package com.devita.domain.post.service.like;
+
+import com.devita.common.exception.ConflictException;
+import com.devita.common.exception.ErrorCode;
+import com.devita.common.exception.ResourceNotFoundException;
+import com.devita.domain.post.domain.Post;
+import com.devita.domain.post.dto.LikeResultDTO;
+import com.devita.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.devita.common.exception.ErrorCode.POST_NOT_FOUND;
+
+// 낙관적 락 (@Version) - 충돌 시 트랜잭션 밖에서 백오프 후 새 트랜잭션으로 재시도
+// 사용자별 중복을 걸러내지 않으므로 benchmark 프로필에서 처리 방식 비교용으로만 사용
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OptimisticLockLikeCounter implements LikeCounter {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${like.counter.optimistic.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${like.counter.optimistic.base-backoff-ms:5}")
+    private long baseBackoffMillis;
+
+    @Value("${like.counter.optimistic.max-backoff-ms:200}")
+    private long maxBackoffMillis;
+
+    @Override
+    public String getName() {
+        return "optimistic-lock";
+    }
+
+    @Override
+    public LikeResultDTO increase(Long userId, Long postId) {
+        return new LikeResultDTO(addLikesWithRetry(postId, 1L), true);
+    }
+
+    @Override
+    public LikeResultDTO decrease(Long userId, Long postId) {
+        return new LikeResultDTO(addLikesWithRetry(postId, -1L), true);
+    }
+
+    @Override
+    public Long getCount(Long postId) {
+        return postRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException(POST_NOT_FOUND))
+                .getLikes();
+    }
+
+    private Long addLikesWithRetry(Long postId, long delta) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                // 시도마다 새 트랜잭션(새 영속성 컨텍스트)에서 최신 버전을 읽음
+                return transactionTemplate.execute(status -> addLikes(postId, delta));
+            } catch (OptimisticLockingFailureException e) {
+                log.debug("좋아요 낙관적 락 충돌 postId={}, attempt={}", postId, attempt);
+                backoff(attempt);
+            }
+        }
+
+        throw new ConflictException(ErrorCode.LIKE_UPDATE_CONFLICT);
+    }
+
+    private Long addLikes(Long postId, long delta) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException(POST_NOT_FOUND));
+
+        post.updateLikes(Math.max(0L, post.getLikes() + delta));
+        return post.getLikes();
+    }
+
+    // 지수 백오프 + 지터
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException(ErrorCode.LIKE_UPDATE_CONFLICT);
+        }
+    }
+}
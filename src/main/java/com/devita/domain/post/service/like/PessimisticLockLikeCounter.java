@@ -0,0 +1,53 @@
+package com.devita.domain.post.service.like;
+
+import com.devita.common.exception.ResourceNotFoundException;
+import com.devita.domain.post.domain.Post;
+import com.devita.domain.post.dto.LikeResultDTO;
+import com.devita.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.devita.common.exception.ErrorCode.POST_NOT_FOUND;
+
+// 비관적 락 (SELECT ... FOR UPDATE) 으로 게시물 행을 잠근 뒤 갱신
+// 사용자별 중복을 걸러내지 않으므로 benchmark 프로필에서 처리 방식 비교용으로만 사용
+@Component
+@RequiredArgsConstructor
+public class PessimisticLockLikeCounter implements LikeCounter {
+
+    private final PostRepository postRepository;
+
+    @Override
+    public String getName() {
+        return "pessimistic-lock";
+    }
+
+    @Override
+    @Transactional
+    public LikeResultDTO increase(Long userId, Long postId) {
+        return new LikeResultDTO(addLikes(postId, 1L), true);
+    }
+
+    @Override
+    @Transactional
+    public LikeResultDTO decrease(Long userId, Long postId) {
+        return new LikeResultDTO(addLikes(postId, -1L), true);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Long getCount(Long postId) {
+        return postRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException(POST_NOT_FOUND))
+                .getLikes();
+    }
+
+    private Long addLikes(Long postId, long delta) {
+        Post post = postRepository.findByIdWithPessimisticLock(postId)
+                .orElseThrow(() -> new ResourceNotFoundException(POST_NOT_FOUND));
+
+        post.updateLikes(Math.max(0L, post.getLikes() + delta));
+        return post.getLikes();
+    }
+}
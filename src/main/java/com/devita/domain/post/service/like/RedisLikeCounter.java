@@ -0,0 +1,112 @@
+package com.devita.domain.post.service.like;
+
+import com.devita.common.exception.ResourceNotFoundException;
+import com.devita.domain.post.dto.LikeResultDTO;
+import com.devita.domain.post.repository.PostLikeRedisRepository;
+import com.devita.domain.post.repository.PostLikeRedisRepository.ShardLayout;
+import com.devita.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.devita.common.exception.ErrorCode.POST_NOT_FOUND;
+
+// Redis 스크립트로 사용자별 좋아요/취소와 좋아요 수를 원자적으로 처리 (DB는 LikeSyncScheduler 가 동기화)
+// 요청이 몰리는 게시물은 LikeShardManager 가 정한 샤드 하나에서만 처리하고 좋아요 수는 샤드 합계로 반환
+@Component
+@RequiredArgsConstructor
+public class RedisLikeCounter implements LikeCounter {
+
+    private final PostLikeRedisRepository postLikeRedisRepository;
+    private final PostRepository postRepository;
+    private final LikeShardManager likeShardManager;
+
+    @Override
+    public String getName() {
+        return "redis";
+    }
+
+    @Override
+    public boolean isUserUnique() {
+        return true;
+    }
+
+    @Override
+    public LikeResultDTO increase(Long userId, Long postId) {
+        likeShardManager.recordRequest(postId);
+        ShardLayout layout = likeShardManager.getLayout(postId);
+        if (layout.isSharded()) {
+            return toShardedResult(postId, postLikeRedisRepository.likeSharded(postId, userId, layout));
+        }
+
+        LikeResultDTO result = postLikeRedisRepository.like(postId, userId, null);
+
+        // Redis에 좋아요 수가 없으면 DB 값으로 초기화하면서 다시 처리
+        if (result == null) {
+            result = postLikeRedisRepository.like(postId, userId, getPostLikes(postId));
+        }
+
+        return result;
+    }
+
+    @Override
+    public LikeResultDTO decrease(Long userId, Long postId) {
+        likeShardManager.recordRequest(postId);
+        ShardLayout layout = likeShardManager.getLayout(postId);
+        if (layout.isSharded()) {
+            return toShardedResult(postId, postLikeRedisRepository.unlikeSharded(postId, userId, layout));
+        }
+
+        LikeResultDTO result = postLikeRedisRepository.unlike(postId, userId, null);
+
+        if (result == null) {
+            result = postLikeRedisRepository.unlike(postId, userId, getPostLikes(postId));
+        }
+
+        return result;
+    }
+
+    @Override
+    public Long getCount(Long postId) {
+        Long likes = getRedisCount(postId);
+        return likes != null ? likes : getPostLikes(postId);
+    }
+
+    @Override
+    public Long getLiveCount(Long postId, Long storedLikes) {
+        Long likes = getRedisCount(postId);
+        return likes != null ? likes : storedLikes;
+    }
+
+    // MGET 한 번으로 조회, Redis 에 없는 게시물은 DB 값 유지
+    @Override
+    public Map<Long, Long> getLiveCounts(Map<Long, Long> storedLikes) {
+        List<Long> postIds = List.copyOf(storedLikes.keySet());
+        Map<Long, Long> liveLikes = new HashMap<>(storedLikes);
+        liveLikes.putAll(postLikeRedisRepository.getCounts(postIds));
+
+        return liveLikes;
+    }
+
+    private LikeResultDTO toShardedResult(Long postId, long delta) {
+        likeShardManager.applyDelta(postId, delta);
+        return new LikeResultDTO(getCount(postId), delta != 0);
+    }
+
+    // 샤드 모드 게시물은 샤드 합계를 잠깐 캐시해서 요청마다 샤드 키를 모두 읽지 않음
+    private Long getRedisCount(Long postId) {
+        if (likeShardManager.getLayout(postId).isSharded()) {
+            return likeShardManager.getSum(postId, id -> postLikeRedisRepository.getCounts(List.of(id)).get(id));
+        }
+        return postLikeRedisRepository.getCounts(List.of(postId), Map.of()).get(postId);
+    }
+
+    private Long getPostLikes(Long postId) {
+        return postRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException(POST_NOT_FOUND))
+                .getLikes();
+    }
+}
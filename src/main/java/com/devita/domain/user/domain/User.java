@@ -59,6 +59,13 @@ public class User extends BaseEntity {
 
     private String profileImage;
 
+    // 팔로우/언팔로우 시 함께 갱신 (FollowCountReconciler 가 주기적으로 follow 테이블과 맞춤)
+    @Column(columnDefinition = "bigint default 0")
+    private Long followingCount = 0L;
+
+    @Column(columnDefinition = "bigint default 0")
+    private Long followerCount = 0L;
+
     @Builder
     public User(String email, String nickname, AuthProvider provider, String profileImage) {
         this.email = email;
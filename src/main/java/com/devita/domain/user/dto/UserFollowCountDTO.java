@@ -0,0 +1,9 @@
+package com.devita.domain.user.dto;
+
+// 사용자에 저장된 팔로잉/팔로워 수
+public record UserFollowCountDTO(
+        Long userId,
+        Long followingCount,
+        Long followerCount
+) {
+}
@@ -0,0 +1,9 @@
+package com.devita.domain.user.dto;
+
+// 목록 표시용 사용자 정보
+public record UserSummaryDTO(
+        Long userId,
+        String nickname,
+        String profileImage
+) {
+}
@@ -1,9 +1,57 @@
 package com.devita.domain.user.repository;
 
 import com.devita.domain.user.domain.User;
+import com.devita.domain.user.dto.UserFollowCountDTO;
+import com.devita.domain.user.dto.UserSummaryDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
-}
\ No newline at end of file
+
+    // 목록 표시용 사용자 정보를 IN 쿼리 한 번으로 조회
+    @Query("SELECT new com.devita.domain.user.dto.UserSummaryDTO(u.id, u.nickname, u.profileImage) " +
+            "FROM User u WHERE u.id IN :ids")
+    List<UserSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 저장된 팔로잉/팔로워 수 (PK 조회 한 번)
+    @Query("SELECT new com.devita.domain.user.dto.UserFollowCountDTO(u.id, u.followingCount, u.followerCount) " +
+            "FROM User u WHERE u.id = :userId")
+    Optional<UserFollowCountDTO> findFollowCount(@Param("userId") Long userId);
+
+    // 정합성 검사용 - lastId 다음 사용자부터 id 순으로 조회
+    @Query("SELECT new com.devita.domain.user.dto.UserFollowCountDTO(u.id, u.followingCount, u.followerCount) " +
+            "FROM User u WHERE u.id > :lastId ORDER BY u.id")
+    List<UserFollowCountDTO> findFollowCountsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.followingCount = u.followingCount + :delta WHERE u.id = :userId")
+    int addFollowingCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.followerCount = u.followerCount + :delta WHERE u.id = :userId")
+    int addFollowerCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    // 읽은 뒤에 팔로우/언팔로우로 값이 바뀌었으면 갱신하지 않음 (다음 검사에서 다시 확인)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.followingCount = :count " +
+            "WHERE u.id = :userId AND u.followingCount = :expected")
+    int repairFollowingCount(@Param("userId") Long userId, @Param("expected") Long expected, @Param("count") Long count);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.followerCount = :count " +
+            "WHERE u.id = :userId AND u.followerCount = :expected")
+    int repairFollowerCount(@Param("userId") Long userId, @Param("expected") Long expected, @Param("count") Long count);
+}
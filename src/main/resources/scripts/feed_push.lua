@@ -0,0 +1,19 @@
+-- 타임라인(zset)에 게시물 추가 후 최신 cap 개만 남김
+-- 키가 없는 타임라인은 조회 시점에 DB에서 다시 만들어지므로 건너뜀 (비활성 사용자의 키를 새로 만들지 않음)
+-- KEYS: 타임라인 키 목록 (feed:timeline:{userId} 또는 feed:outbox:{userId})
+-- ARGV[1]: postId (score 와 member 로 함께 사용)
+-- ARGV[2]: 타임라인 최대 크기
+-- 반환값: 게시물이 추가된 타임라인 수
+
+local pushed = 0
+local cap = tonumber(ARGV[2])
+
+for _, key in ipairs(KEYS) do
+    if redis.call('EXISTS', key) == 1 then
+        redis.call('ZADD', key, ARGV[1], ARGV[1])
+        redis.call('ZREMRANGEBYRANK', key, 0, -(cap + 1))
+        pushed = pushed + 1
+    end
+end
+
+return pushed
@@ -0,0 +1,23 @@
+-- DB에서 읽은 팔로우 id 로 set 을 다시 만듦
+-- DB를 읽기 전에 확인한 버전이 그대로이고 set 이 아직 없을 때만 저장 (그 사이 팔로우/언팔로우가 있었으면 다음 조회에서 다시 만듦)
+-- KEYS[1]: 팔로잉 set
+-- KEYS[2]: set 버전
+-- ARGV[1]: DB를 읽기 전에 확인한 버전 (버전 키가 없었으면 0)
+-- ARGV[2]: set 만료 시간 (초)
+-- ARGV[3..]: set member (표시용 member 포함)
+-- 반환값: 저장했으면 1
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+    return 0
+end
+
+for i = 3, #ARGV, 5000 do
+    redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 4999, #ARGV)))
+end
+redis.call('EXPIRE', KEYS[1], ARGV[2])
+
+return 1
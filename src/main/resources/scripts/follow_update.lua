@@ -0,0 +1,21 @@
+-- 팔로우/언팔로우를 사용자의 팔로잉 id set 에 반영
+-- 키가 없는 set 은 필요할 때 DB에서 다시 만들어지므로 건너뜀
+-- 대신 set 버전을 올려서, 이 변경 전에 DB를 읽고 다시 만드는 중인 set 이 저장되지 않도록 함 (follow_rebuild.lua)
+-- KEYS[1]: 팔로우한 사용자의 팔로잉 set (follow:followings:{userId})
+-- KEYS[2]: KEYS[1] 의 버전 (follow:followings_version:{userId})
+-- ARGV[1]: add | remove
+-- ARGV[2]: targetUserId
+-- ARGV[3]: 버전 키 만료 시간 (초)
+-- 반환값: 반영된 set 수
+
+local updated = 0
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    redis.call(ARGV[1] == 'add' and 'SADD' or 'SREM', KEYS[1], ARGV[2])
+    updated = 1
+end
+
+redis.call('INCR', KEYS[2])
+redis.call('EXPIRE', KEYS[2], ARGV[3])
+
+return updated
@@ -0,0 +1,75 @@
+-- 노드의 좋아요 카운터 상태(PN-counter)를 병합하고 사용자별 좋아요/취소 기록을 반영
+-- 노드 상태는 단조 증가하는 좋아요/취소 누적값이라 같은 상태를 다시 보내도 결과가 같음 (큰 값만 반영)
+-- 이미 좋아요한 사용자의 좋아요, 좋아요하지 않은 사용자의 취소는 보정값(rl/ru)으로 상쇄
+-- 오래 병합되지 않은 노드(정리된 상태, 종료된 프로세스)의 field 는 좋아요 수에 이미 반영되어 있으므로 삭제해도 결과가 같음
+-- KEYS[1]: 노드 상태 hash (post:like_crdt:{postId}, field = {node}:{p|n|rl|ru|seq|at})
+-- KEYS[2]: 좋아요 수 (post:like_count:{postId})
+-- KEYS[3]: DB 동기화 대상 게시물 zset (post:like_dirty:{partition})
+-- KEYS[4]: 좋아요한 사용자 set (post:like:{postId})
+-- ARGV[1]: 노드 상태 field prefix
+-- ARGV[2]: 노드의 좋아요 누적값
+-- ARGV[3]: 노드의 취소 누적값
+-- ARGV[4]: 사용자 기록 배치 번호 (이미 반영한 번호 이하면 기록은 건너뜀 - 재시도 대비)
+-- ARGV[5]: 좋아요 수 키가 없을 때 사용할 초기값 (DB 값, 모르면 빈 문자열)
+-- ARGV[6]: postId
+-- ARGV[7]: 현재 시각 (epoch millis)
+-- ARGV[8]: 노드 상태 hash 만료 시간 (초)
+-- ARGV[9]: 이 시각(epoch millis) 이전에 마지막으로 병합된 다른 노드 field 정리 (건너뛰면 빈 문자열)
+-- ARGV[10..]: 사용자 기록 (+userId 좋아요, -userId 취소, 요청 순서대로)
+-- 반환값: 병합 후 좋아요 수, 초기값이 필요하면 -1
+
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    if ARGV[5] == '' then
+        return -1
+    end
+    redis.call('SET', KEYS[2], ARGV[5])
+end
+
+local node = ARGV[1]
+local function field(name)
+    return tonumber(redis.call('HGET', KEYS[1], node .. ':' .. name) or '0')
+end
+
+local p, n, rl, ru = field('p'), field('n'), field('rl'), field('ru')
+local before = p - n + ru - rl
+
+p = math.max(p, tonumber(ARGV[2]))
+n = math.max(n, tonumber(ARGV[3]))
+
+if tonumber(ARGV[4]) > field('seq') then
+    for i = 10, #ARGV do
+        local user = string.sub(ARGV[i], 2)
+        if string.sub(ARGV[i], 1, 1) == '+' then
+            if redis.call('SADD', KEYS[4], user) == 0 then
+                rl = rl + 1
+            end
+        elseif redis.call('SREM', KEYS[4], user) == 0 then
+            ru = ru + 1
+        end
+    end
+    redis.call('HSET', KEYS[1], node .. ':seq', ARGV[4])
+end
+
+redis.call('HSET', KEYS[1], node .. ':p', p, node .. ':n', n, node .. ':rl', rl, node .. ':ru', ru, node .. ':at', ARGV[7])
+
+if ARGV[9] ~= '' then
+    local threshold = tonumber(ARGV[9])
+    local fields = redis.call('HGETALL', KEYS[1])
+    for i = 1, #fields, 2 do
+        local name = fields[i]
+        if string.sub(name, -3) == ':at' and tonumber(fields[i + 1]) < threshold then
+            local prefix = string.sub(name, 1, -4)
+            redis.call('HDEL', KEYS[1], prefix .. ':p', prefix .. ':n', prefix .. ':rl', prefix .. ':ru', prefix .. ':seq', name)
+        end
+    end
+end
+redis.call('EXPIRE', KEYS[1], ARGV[8])
+
+local after = p - n + ru - rl
+if after ~= before then
+    redis.call('ZADD', KEYS[3], 'NX', ARGV[7], ARGV[6])
+    redis.call('PERSIST', KEYS[2])
+    return redis.call('INCRBY', KEYS[2], after - before)
+end
+
+return tonumber(redis.call('GET', KEYS[2]))
@@ -0,0 +1,21 @@
+-- 동기화할 게시물 id를 오래된 순으로 꺼내서 처리 중 zset 으로 옮김 (변경 시각은 그대로 유지)
+-- DB 반영이 끝난 뒤에 처리 중 zset 에서 지우므로, 반영 전에 실패하거나 종료되어도 id가 사라지지 않음
+-- 옮긴 뒤의 변경은 동기화 대상 zset 에 다시 등록되어 다음 동기화에서 반영됨
+-- KEYS[1]: DB 동기화 대상 게시물 zset (post:like_dirty:{partition})
+-- KEYS[2]: 동기화 중인 게시물 zset (post:like_syncing:{partition})
+-- ARGV[1]: 최대 개수
+-- 반환값: 꺼낸 게시물 id (오래된 순)
+
+local claimed = redis.call('ZRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1, 'WITHSCORES')
+local postIds = {}
+
+for i = 1, #claimed, 2 do
+    redis.call('ZADD', KEYS[2], 'LT', claimed[i + 1], claimed[i])
+    postIds[#postIds + 1] = claimed[i]
+end
+
+if #postIds > 0 then
+    redis.call('ZREM', KEYS[1], unpack(postIds))
+end
+
+return postIds
@@ -0,0 +1,19 @@
+-- 반영하지 못한 게시물 id를 처리 중 zset 에서 동기화 대상 zset 으로 되돌림
+-- 처음 변경된 시각을 그대로 사용 (그 사이 다시 변경되어 등록되어 있으면 더 이른 시각을 유지)
+-- KEYS[1]: DB 동기화 대상 게시물 zset (post:like_dirty:{partition})
+-- KEYS[2]: 동기화 중인 게시물 zset (post:like_syncing:{partition})
+-- ARGV[1..]: 게시물 id
+-- 반환값: 되돌린 게시물 수
+
+local restored = 0
+
+for i = 1, #ARGV do
+    local score = redis.call('ZSCORE', KEYS[2], ARGV[i])
+    if score then
+        redis.call('ZADD', KEYS[1], 'LT', score, ARGV[i])
+        redis.call('ZREM', KEYS[2], ARGV[i])
+        restored = restored + 1
+    end
+end
+
+return restored
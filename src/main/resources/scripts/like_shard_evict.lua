@@ -0,0 +1,20 @@
+-- 샤드 수가 바뀐 게시물에서 이전 배치의 사용자를 꺼냄 (꺼낸 만큼 이전 좋아요 수를 줄이고 새 샤드에 그대로 다시 추가)
+-- 꺼낸 뒤 새 샤드에 추가하기 전까지 잠깐 합계에서 빠지지만 같은 사용자를 동시에 처리해도 한 번만 옮겨짐
+-- KEYS[1]: 이전 배치의 좋아요한 사용자 set (post:like:{postId} 또는 post:like:{postId:shard})
+-- KEYS[2]: 이전 배치의 좋아요 수
+-- ARGV[1..]: 꺼낼 사용자 id
+-- 반환값: set 에 있어서 꺼낸 사용자 id
+
+local evicted = {}
+
+for i = 1, #ARGV do
+    if redis.call('SREM', KEYS[1], ARGV[i]) == 1 then
+        evicted[#evicted + 1] = ARGV[i]
+    end
+end
+
+if #evicted > 0 then
+    redis.call('DECRBY', KEYS[2], #evicted)
+end
+
+return evicted
@@ -0,0 +1,23 @@
+-- 게시물의 좋아요 샤드 수를 늘림 (늘리기만 하고, 이전 배치에서 사용자를 옮기는 중이면 끝날 때까지 그대로 둠)
+-- KEYS[1]: 게시물별 샤드 배치 hash ({post:like_shards}, field = postId, value = "샤드 수" 또는 "샤드 수:이전 샤드 수:늘린 시각")
+-- KEYS[2]: 사용자를 옮기는 중인 게시물 set ({post:like_shards}:migrating)
+-- ARGV[1]: postId
+-- ARGV[2]: 목표 샤드 수
+-- ARGV[3]: 현재 시각 (epoch millis)
+-- 반환값: 처리 후 배치 (샤드 모드가 아니면 "1")
+
+local layout = redis.call('HGET', KEYS[1], ARGV[1])
+if layout and string.find(layout, ':') then
+    return layout
+end
+
+local current = tonumber(layout or '1')
+if tonumber(ARGV[2]) <= current then
+    return layout or '1'
+end
+
+local grown = ARGV[2] .. ':' .. current .. ':' .. ARGV[3]
+redis.call('HSET', KEYS[1], ARGV[1], grown)
+redis.call('SADD', KEYS[2], ARGV[1])
+
+return grown
@@ -0,0 +1,16 @@
+-- 이전 배치의 사용자를 모두 옮긴 게시물의 배치를 새 샤드 수로 확정
+-- KEYS[1]: 게시물별 샤드 배치 hash ({post:like_shards})
+-- KEYS[2]: 사용자를 옮기는 중인 게시물 set ({post:like_shards}:migrating)
+-- ARGV[1]: postId
+-- ARGV[2]: 옮기기 시작할 때 읽은 배치 (그 사이 바뀌었으면 확정하지 않음)
+-- ARGV[3]: 새 샤드 수
+-- 반환값: 확정했으면 1
+
+if redis.call('HGET', KEYS[1], ARGV[1]) ~= ARGV[2] then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+redis.call('SREM', KEYS[2], ARGV[1])
+
+return 1
@@ -0,0 +1,32 @@
+-- 게시물 좋아요/좋아요 취소를 한 번의 왕복으로 처리
+-- KEYS[1]: 좋아요한 사용자 set (post:like:{postId})
+-- KEYS[2]: 좋아요 수 (post:like_count:{postId})
+-- KEYS[3]: DB 동기화 대상 게시물 zset (post:like_dirty:{partition}, score = 최초 변경 시각)
+-- ARGV[1]: userId
+-- ARGV[2]: like | unlike
+-- ARGV[3]: 좋아요 수 키가 없을 때 사용할 초기값 (DB 값, 모르면 빈 문자열)
+-- ARGV[4]: postId
+-- ARGV[5]: 현재 시각 (epoch millis)
+-- 반환값: {처리 후 좋아요 수, 좋아요 수 변경 여부(1/0)}, 초기값이 필요하면 {-1, 0}
+
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    if ARGV[3] == '' then
+        return {-1, 0}
+    end
+    redis.call('SET', KEYS[2], ARGV[3])
+end
+
+-- 변경된 좋아요 수 키는 만료 시간을 제거 (한동안 사용되지 않아 만료 예정이던 키가 동기화 전에 사라지지 않도록)
+if ARGV[2] == 'like' then
+    if redis.call('SADD', KEYS[1], ARGV[1]) == 1 then
+        redis.call('ZADD', KEYS[3], 'NX', ARGV[5], ARGV[4])
+        redis.call('PERSIST', KEYS[2])
+        return {redis.call('INCR', KEYS[2]), 1}
+    end
+elseif redis.call('SREM', KEYS[1], ARGV[1]) == 1 then
+    redis.call('ZADD', KEYS[3], 'NX', ARGV[5], ARGV[4])
+    redis.call('PERSIST', KEYS[2])
+    return {redis.call('DECR', KEYS[2]), 1}
+end
+
+return {tonumber(redis.call('GET', KEYS[2])), 0}
@@ -0,0 +1,28 @@
+-- 샤드 모드 게시물의 좋아요/좋아요 취소 (사용자 set 과 좋아요 수가 같은 hash tag 라서 샤드 하나 안에서 원자적으로 처리)
+-- 사용자는 userId 해시로 정한 샤드에만 기록되므로 샤드마다 중복 여부를 따로 확인해도 사용자별로 한 번만 반영됨
+-- KEYS[1]: 샤드의 좋아요한 사용자 set (post:like:{postId:shard})
+-- KEYS[2]: 샤드의 좋아요 수 (post:like_count:{postId:shard})
+-- ARGV[1]: like | unlike | 빈 문자열 (옮겨온 사용자만 반영)
+-- ARGV[2]: userId (ARGV[1] 이 빈 문자열이면 무시)
+-- ARGV[3..]: 이전 샤드에서 옮겨온 사용자 id (like_shard_evict.lua 가 꺼낸 사용자, 좋아요 상태 그대로 추가)
+-- 반환값: ARGV[1] 로 반영된 증감분 (1, -1, 0)
+
+for i = 3, #ARGV do
+    if redis.call('SADD', KEYS[1], ARGV[i]) == 1 then
+        redis.call('INCR', KEYS[2])
+    end
+end
+
+if ARGV[1] == 'like' then
+    if redis.call('SADD', KEYS[1], ARGV[2]) == 1 then
+        redis.call('INCR', KEYS[2])
+        return 1
+    end
+elseif ARGV[1] == 'unlike' then
+    if redis.call('SREM', KEYS[1], ARGV[2]) == 1 then
+        redis.call('DECR', KEYS[2])
+        return -1
+    end
+end
+
+return 0
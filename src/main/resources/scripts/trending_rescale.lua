@@ -0,0 +1,29 @@
+-- 인기 게시물 점수 재조정 (점수가 계속 커지지 않도록 기준 시각을 현재로 옮김)
+-- KEYS[1]: 인기 게시물 zset (post:trending)
+-- KEYS[2]: 점수 기준 시각 (post:trending:epoch)
+-- ARGV[1]: 현재 시각 (epoch millis)
+-- ARGV[2]: 밀리초당 감쇠율 (ln2 / 반감기)
+-- ARGV[3]: 이보다 작은 점수는 삭제
+-- ARGV[4]: 최대 보관 게시물 수
+
+local now = tonumber(ARGV[1])
+local epoch = tonumber(redis.call('GET', KEYS[2]) or ARGV[1])
+local factor = math.exp(-tonumber(ARGV[2]) * (now - epoch))
+local minScore = tonumber(ARGV[3])
+local maxSize = tonumber(ARGV[4])
+
+-- 하위 점수부터 잘라내서 아래 반복 횟수를 제한
+redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(maxSize + 1))
+
+local members = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES')
+for i = 1, #members, 2 do
+    local score = tonumber(members[i + 1]) * factor
+    if score < minScore then
+        redis.call('ZREM', KEYS[1], members[i])
+    else
+        redis.call('ZADD', KEYS[1], 'XX', score, members[i])
+    end
+end
+
+redis.call('SET', KEYS[2], ARGV[1])
+return #members / 2
@@ -0,0 +1,76 @@
+package com.devita.common.batch;
+
+import com.devita.domain.post.repository.PostJdbcRepository;
+import com.devita.domain.post.repository.PostLikeRedisRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LikeSyncSchedulerTest {
+    @Mock
+    private PostLikeRedisRepository postLikeRedisRepository;
+    @Mock
+    private PostJdbcRepository postJdbcRepository;
+
+    private LikeSyncScheduler likeSyncScheduler;
+
+    @BeforeEach
+    void setUp() {
+        when(postLikeRedisRepository.getPartitions()).thenReturn(1);
+        likeSyncScheduler = new LikeSyncScheduler(postLikeRedisRepository, postJdbcRepository,
+                new LikeSyncMetrics(new SimpleMeterRegistry()), 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeSyncScheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("DB에 반영한 뒤에 동기화 중 목록에서 제거")
+    void syncPartition_CompletesAfterUpdate() {
+        // given
+        when(postLikeRedisRepository.claimDirtyPostIds(0, 100)).thenReturn(List.of(1L, 2L), List.of());
+        when(postLikeRedisRepository.getCounts(List.of(1L, 2L))).thenReturn(Map.of(1L, 3L, 2L, 5L));
+        when(postJdbcRepository.updateLikes(Map.of(1L, 3L, 2L, 5L))).thenReturn(2);
+
+        // when
+        long items = likeSyncScheduler.syncPartition(0);
+
+        // then
+        assertEquals(2, items);
+        verify(postLikeRedisRepository).completeSyncing(0, List.of(1L, 2L));
+        verify(postLikeRedisRepository, never()).restoreSyncing(any(Integer.class), any());
+    }
+
+    @Test
+    @DisplayName("좋아요 수를 읽지 못하면 꺼낸 게시물을 동기화 대상으로 되돌림")
+    void syncPartition_RestoresOnFailure() {
+        // given
+        when(postLikeRedisRepository.claimDirtyPostIds(0, 100)).thenReturn(List.of(1L, 2L));
+        when(postLikeRedisRepository.getCounts(List.of(1L, 2L))).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when & then
+        assertThrows(QueryTimeoutException.class, () -> likeSyncScheduler.syncPartition(0));
+        verify(postLikeRedisRepository).restoreSyncing(0, List.of(1L, 2L));
+        verify(postLikeRedisRepository, never()).completeSyncing(any(Integer.class), any());
+        verify(postJdbcRepository, never()).updateLikes(any());
+    }
+}
@@ -0,0 +1,162 @@
+package com.devita.common.batch;
+
+import com.devita.domain.post.repository.PostLikeRedisRepository;
+import com.devita.domain.post.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("unchecked")
+class PostRedisJanitorTest {
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostLikeRedisRepository postLikeRedisRepository;
+
+    private PostRedisJanitor postRedisJanitor;
+
+    @BeforeEach
+    void setUp() {
+        postRedisJanitor = new PostRedisJanitor(redisTemplate, postRepository, postLikeRedisRepository,
+                new SimpleMeterRegistry(), 500, 1_000_000, 72, 24);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시물의 좋아요 키만 삭제")
+    void run_DeletesOrphanKeys() {
+        // given
+        givenKeys(List.of("post:like:1", "post:like:2"), List.of());
+        when(postRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(List.of(1L));
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(64L));
+        when(redisTemplate.unlink(List.of("post:like:2"))).thenReturn(1L);
+
+        // when
+        PostRedisJanitor.Report report = postRedisJanitor.run();
+
+        // then
+        assertEquals(2, report.getScannedKeys());
+        assertEquals(1, report.getDeletedKeys());
+        assertEquals(64, report.getReclaimedBytes());
+        assertEquals(0, report.getExpiringKeys());
+    }
+
+    @Test
+    @DisplayName("삭제된 게시물의 샤드 키와 샤드 배치도 삭제")
+    void run_DeletesOrphanShardKeys() {
+        // given
+        givenKeys(List.of("post:like:{2:0}", "post:like:{2:1}"), List.of());
+        when(postRepository.findExistingIds(Set.of(2L))).thenReturn(List.of());
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(64L, 32L));
+        when(redisTemplate.unlink(List.of("post:like:{2:0}", "post:like:{2:1}"))).thenReturn(2L);
+
+        // when
+        PostRedisJanitor.Report report = postRedisJanitor.run();
+
+        // then
+        assertEquals(2, report.getDeletedKeys());
+        assertEquals(96, report.getReclaimedBytes());
+        verify(postLikeRedisRepository).removeShardLayouts(Set.of(2L));
+    }
+
+    @Test
+    @DisplayName("오래 사용되지 않은 좋아요 수 키에 만료 시간을 걸되 동기화 대기 중인 게시물은 제외")
+    void run_SkipsDirtyPosts() {
+        // given
+        givenKeys(List.of(), List.of("post:like_count:1", "post:like_count:2"));
+        when(postRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of(Duration.ofHours(100), -1L, Duration.ofHours(100), -1L))
+                .thenReturn(List.of());
+        when(postLikeRedisRepository.findDirtyPostIds(List.of(1L, 2L))).thenReturn(new HashSet<>(Set.of(2L)));
+
+        // when
+        PostRedisJanitor.Report report = postRedisJanitor.run();
+
+        // then
+        assertEquals(1, report.getExpiringKeys());
+        assertEquals(0, report.getDeletedKeys());
+
+        ArgumentCaptor<RedisCallback<Object>> callbacks = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate, times(2)).executePipelined(callbacks.capture());
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        callbacks.getValue().doInRedis(connection);
+
+        verify(keyCommands).expire(bytes("post:like_count:1"), Duration.ofHours(24).toSeconds());
+        verify(keyCommands, never()).expire(eq(bytes("post:like_count:2")), anyLong());
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 키는 건너뜀")
+    void run_IgnoresMalformedKeys() {
+        // given
+        givenKeys(List.of("post:like:1", "post:like:abc", "post:like:1:2"), List.of("post:like_count:3", "post:like_count:x"));
+        when(postRepository.findExistingIds(Set.of(1L))).thenReturn(List.of(1L));
+        when(postRepository.findExistingIds(Set.of(3L))).thenReturn(List.of(3L));
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(Duration.ofHours(1), -1L));
+
+        // when
+        PostRedisJanitor.Report report = postRedisJanitor.run();
+
+        // then
+        assertEquals(5, report.getScannedKeys());
+        assertEquals(0, report.getDeletedKeys());
+        assertEquals(0, report.getExpiringKeys());
+        verify(redisTemplate, never()).unlink(anyList());
+        verify(postLikeRedisRepository, never()).findDirtyPostIds(any());
+    }
+
+    // 첫 번째 SCAN 은 post:like:*, 두 번째 SCAN 은 post:like_count:*
+    private void givenKeys(List<String> likeKeys, List<String> countKeys) {
+        Cursor<String> likeCursor = cursorOf(likeKeys);
+        Cursor<String> countCursor = cursorOf(countKeys);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(likeCursor, countCursor);
+    }
+
+    private Cursor<String> cursorOf(List<String> keys) {
+        Iterator<String> iterator = keys.iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        lenient().when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        return cursor;
+    }
+
+    private byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
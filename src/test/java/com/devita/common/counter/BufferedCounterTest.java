@@ -0,0 +1,108 @@
+package com.devita.common.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BufferedCounterTest {
+
+    @Test
+    @DisplayName("꺼내는 중에 더해진 증감분도 유실되지 않음")
+    void drain_KeepsConcurrentAdds() throws Exception {
+        // given
+        BufferedCounter counter = new BufferedCounter();
+        int threads = 4;
+        int addsPerThread = 200_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when - 같은 id 몇 개에 계속 더하면서 동시에 반복해서 꺼냄
+        List<Future<?>> writers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int n = 0; n < addsPerThread; n++) {
+                    counter.add((long) (n % 3), 1L);
+                }
+                return null;
+            }));
+        }
+
+        long drained = 0;
+        start.countDown();
+        while (!writers.stream().allMatch(Future::isDone)) {
+            drained += counter.drain().values().stream().mapToLong(Long::longValue).sum();
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        drained += counter.drain().values().stream().mapToLong(Long::longValue).sum();
+        executor.shutdown();
+
+        // then
+        assertEquals((long) threads * addsPerThread, drained);
+        assertTrue(counter.isEmpty());
+    }
+
+    @Test
+    @DisplayName("꺼낸 증감분은 release 전까지 대기 값에 남음")
+    void drain_KeepsPendingUntilRelease() {
+        // given
+        BufferedCounter counter = new BufferedCounter();
+        counter.add(1L, 3L);
+        counter.add(1L, -1L);
+
+        // when
+        long pending = counter.getPending(1L);
+        long drained = counter.drain().get(1L);
+        long pendingWhileDraining = counter.getPending(1L);
+        counter.release();
+
+        // then
+        assertEquals(2L, pending);
+        assertEquals(2L, drained);
+        assertEquals(2L, pendingWhileDraining);
+        assertEquals(0L, counter.getPending(1L));
+    }
+
+    @Test
+    @DisplayName("꺼내는 도중에 읽어도 대기 값이 빠지지 않음")
+    void getPending_ConsistentDuringDrain() throws Exception {
+        // given
+        BufferedCounter counter = new BufferedCounter();
+        counter.add(1L, 5L);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicBoolean stop = new AtomicBoolean();
+
+        // when - 꺼낸 값을 다시 더한 뒤 release 하는 동안 계속 읽음 (반영에 실패해서 되돌리는 경우와 같음)
+        Future<?> drainer = executor.submit(() -> {
+            while (!stop.get()) {
+                Map<Long, Long> deltas = counter.drain();
+                deltas.forEach(counter::add);
+                counter.release();
+            }
+        });
+
+        long minPending = Long.MAX_VALUE;
+        for (int i = 0; i < 200_000; i++) {
+            minPending = Math.min(minPending, counter.getPending(1L));
+        }
+        stop.set(true);
+        drainer.get();
+        executor.shutdown();
+
+        // then
+        assertEquals(5L, minPending);
+    }
+}
@@ -0,0 +1,130 @@
+package com.devita.common.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CounterEventLogTest {
+
+    private static final int CAPACITY = CounterEventLog.HEADER_SIZE + CounterEventLog.RECORD_SIZE * 8;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("쓰다 만 마지막 레코드는 건너뛰고 그 자리부터 이어서 기록")
+    void replay_SkipsTornTail() throws IOException {
+        // given
+        Path path = directory.resolve("test.log");
+        try (CounterEventLog eventLog = CounterEventLog.open(path, CAPACITY)) {
+            eventLog.append(1L, 3L);
+            eventLog.append(2L, 7L);
+        }
+        // 두 번째 레코드의 checksum 을 쓰기 전에 종료된 상태
+        corruptChecksum(path, 1);
+
+        // when
+        Map<Long, Long> recovered;
+        try (CounterEventLog eventLog = CounterEventLog.open(path, CAPACITY)) {
+            recovered = eventLog.replay();
+            eventLog.append(4L, 1L);
+        }
+
+        Map<Long, Long> replayed;
+        try (CounterEventLog eventLog = CounterEventLog.open(path, CAPACITY)) {
+            replayed = eventLog.replay();
+        }
+
+        // then
+        assertEquals(Map.of(1L, 3L), recovered);
+        assertEquals(Map.of(1L, 3L, 4L, 1L), replayed);
+    }
+
+    @Test
+    @DisplayName("중간에 비어 있는 레코드가 있어도 뒤의 유효한 레코드까지 복구")
+    void replay_SkipsHole() throws IOException {
+        // given
+        Path path = directory.resolve("test.log");
+        try (CounterEventLog eventLog = CounterEventLog.open(path, CAPACITY)) {
+            eventLog.append(1L, 3L);
+            eventLog.append(2L, 7L);
+            eventLog.append(1L, 4L);
+        }
+        corruptChecksum(path, 1);
+
+        // when
+        Map<Long, Long> recovered;
+        try (CounterEventLog eventLog = CounterEventLog.open(path, CAPACITY)) {
+            recovered = eventLog.replay();
+        }
+
+        // then
+        assertEquals(Map.of(1L, 7L), recovered);
+    }
+
+    @Test
+    @DisplayName("reset 이전 generation 의 레코드는 다시 읽히지 않음")
+    void reset_InvalidatesPreviousGeneration() {
+        // given
+        Path path = directory.resolve("test.log");
+        try (CounterEventLog eventLog = CounterEventLog.open(path, CAPACITY)) {
+            eventLog.append(1L, 3L);
+            eventLog.append(2L, 7L);
+            eventLog.reset();
+            eventLog.append(3L, 1L);
+        }
+
+        // when
+        Map<Long, Long> recovered;
+        try (CounterEventLog eventLog = CounterEventLog.open(path, CAPACITY)) {
+            recovered = eventLog.replay();
+        }
+
+        // then
+        assertEquals(Map.of(3L, 1L), recovered);
+    }
+
+    @Test
+    @DisplayName("공간이 부족하면 기록하지 않음")
+    void append_Full() {
+        // given
+        Path path = directory.resolve("test.log");
+        try (CounterEventLog eventLog = CounterEventLog.open(path, CounterEventLog.HEADER_SIZE + CounterEventLog.RECORD_SIZE)) {
+            // when
+            boolean first = eventLog.append(1L, 1L);
+            boolean second = eventLog.append(1L, 1L);
+
+            // then
+            assertTrue(first);
+            assertEquals(false, second);
+        }
+    }
+
+    @Test
+    @DisplayName("이미 열려 있는 로그 파일은 다시 열 수 없음")
+    void open_Locked() {
+        // given
+        Path path = directory.resolve("test.log");
+        try (CounterEventLog ignored = CounterEventLog.open(path, CAPACITY)) {
+            // when & then
+            assertThrows(IllegalStateException.class, () -> CounterEventLog.open(path, CAPACITY));
+        }
+    }
+
+    private void corruptChecksum(Path path, int record) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4), CounterEventLog.HEADER_SIZE + (long) CounterEventLog.RECORD_SIZE * record + 20);
+        }
+    }
+}
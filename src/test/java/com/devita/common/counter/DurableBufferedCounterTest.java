@@ -0,0 +1,134 @@
+package com.devita.common.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DurableBufferedCounterTest {
+
+    private static final int SEGMENT_BYTES = 4 * 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("재시작하면 반영되지 않은 증감분을 로그에서 복구")
+    void open_RecoversPending() {
+        // given
+        try (DurableBufferedCounter counter = new DurableBufferedCounter(directory, "test", SEGMENT_BYTES)) {
+            counter.add(1L, 2L);
+            counter.add(1L, 3L);
+            counter.add(2L, -1L);
+        }
+
+        // when
+        try (DurableBufferedCounter counter = new DurableBufferedCounter(directory, "test", SEGMENT_BYTES)) {
+            // then
+            assertEquals(5L, counter.getPending(1L));
+            assertEquals(-1L, counter.getPending(2L));
+        }
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증감분은 다시 버퍼와 로그에 기록되어 재시작 후에도 한 번만 남음")
+    void flush_ReaddsOnWriterFailure() {
+        // given
+        try (DurableBufferedCounter counter = new DurableBufferedCounter(directory, "test", SEGMENT_BYTES)) {
+            counter.add(1L, 5L);
+
+            // when
+            assertThrows(IllegalStateException.class, () -> counter.flush(deltas -> {
+                throw new IllegalStateException("DB 오류");
+            }));
+
+            // then
+            assertEquals(5L, counter.getPending(1L));
+        }
+
+        Map<Long, Long> flushed = new HashMap<>();
+        try (DurableBufferedCounter counter = new DurableBufferedCounter(directory, "test", SEGMENT_BYTES)) {
+            assertEquals(5L, counter.getPending(1L));
+            counter.flush(flushed::putAll);
+            assertEquals(0L, counter.getPending(1L));
+        }
+        assertEquals(Map.of(1L, 5L), flushed);
+
+        try (DurableBufferedCounter counter = new DurableBufferedCounter(directory, "test", SEGMENT_BYTES)) {
+            assertEquals(0L, counter.getPending(1L));
+        }
+    }
+
+    @Test
+    @DisplayName("반영 중인 증감분은 writer 가 반영을 마칠 때까지 대기 값에 남음")
+    void flush_KeepsPendingUntilWritten() {
+        // given
+        try (DurableBufferedCounter counter = new DurableBufferedCounter(directory, "test", SEGMENT_BYTES)) {
+            counter.add(1L, 5L);
+            AtomicLong pendingWhileWriting = new AtomicLong();
+
+            // when
+            counter.flush(deltas -> pendingWhileWriting.set(counter.getPending(1L)));
+
+            // then
+            assertEquals(5L, pendingWhileWriting.get());
+            assertEquals(0L, counter.getPending(1L));
+        }
+    }
+
+    @Test
+    @DisplayName("반영 중 쓰기 대상이 바뀌어도 동시에 기록한 증감분이 유실되거나 중복되지 않음")
+    void flush_KeepsConcurrentAdds() throws Exception {
+        // given
+        int threads = 4;
+        int addsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong flushed = new AtomicLong();
+
+        try (DurableBufferedCounter counter = new DurableBufferedCounter(directory, "test", SEGMENT_BYTES)) {
+            // when - 같은 id 몇 개에 계속 더하면서 동시에 반복해서 반영
+            List<Future<?>> writers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int n = 0; n < addsPerThread; n++) {
+                        counter.add((long) (n % 3), 1L);
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            while (!writers.stream().allMatch(Future::isDone)) {
+                counter.flush(deltas -> deltas.values().forEach(flushed::addAndGet));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            counter.flush(deltas -> deltas.values().forEach(flushed::addAndGet));
+            counter.flush(deltas -> deltas.values().forEach(flushed::addAndGet));
+        } finally {
+            executor.shutdown();
+        }
+
+        // then - 반영한 합계가 정확하고, 재시작해도 남은 증감분이 없음
+        assertEquals((long) threads * addsPerThread, flushed.get());
+        try (DurableBufferedCounter counter = new DurableBufferedCounter(directory, "test", SEGMENT_BYTES)) {
+            assertEquals(0L, counter.getPending(0L) + counter.getPending(1L) + counter.getPending(2L));
+        }
+    }
+}
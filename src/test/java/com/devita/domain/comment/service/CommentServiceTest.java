@@ -0,0 +1,156 @@
+package com.devita.domain.comment.service;
+
+import com.devita.common.exception.AccessDeniedException;
+import com.devita.common.exception.ErrorCode;
+import com.devita.common.exception.IllegalArgumentException;
+import com.devita.common.util.PageSizes;
+import com.devita.domain.comment.domain.Comment;
+import com.devita.domain.comment.dto.CommentPageResDTO;
+import com.devita.domain.comment.dto.CommentReqDTO;
+import com.devita.domain.comment.dto.CommentResDTO;
+import com.devita.domain.comment.dto.CommentSummaryDTO;
+import com.devita.domain.comment.repository.CommentRepository;
+import com.devita.domain.post.domain.Post;
+import com.devita.domain.post.repository.PostRepository;
+import com.devita.domain.post.service.PostCommentCounter;
+import com.devita.domain.user.domain.AuthProvider;
+import com.devita.domain.user.domain.User;
+import com.devita.domain.user.dto.UserSummaryDTO;
+import com.devita.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PostCommentCounter postCommentCounter;
+
+    @InjectMocks
+    private CommentService commentService;
+
+    private User testUser;
+    private Post testPost;
+
+    private static final Long USER_ID = 1L;
+    private static final Long POST_ID = 10L;
+    private static final Long COMMENT_ID = 100L;
+
+    @BeforeEach
+    void setUp() {
+        testUser = User.builder()
+                .email("test@test.com")
+                .nickname("testUser")
+                .provider(AuthProvider.KAKAO)
+                .build();
+        testUser.setId(USER_ID);
+
+        testPost = Post.builder()
+                .writer(testUser)
+                .title("Test Title")
+                .description("Test Description")
+                .build();
+        testPost.setId(POST_ID);
+    }
+
+    @Test
+    @DisplayName("댓글 작성 시 게시물 댓글 수는 버퍼에 반영")
+    void addComment_IncreasesBufferedCount() {
+        // given
+        when(postRepository.existsById(POST_ID)).thenReturn(true);
+        when(userRepository.existsById(USER_ID)).thenReturn(true);
+        when(postRepository.getReferenceById(POST_ID)).thenReturn(testPost);
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(testUser);
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> {
+            Comment comment = invocation.getArgument(0);
+            ReflectionTestUtils.setField(comment, "id", COMMENT_ID);
+            return comment;
+        });
+
+        // when
+        Long commentId = commentService.addComment(USER_ID, POST_ID, new CommentReqDTO("댓글"));
+
+        // then
+        assertEquals(COMMENT_ID, commentId);
+        verify(postCommentCounter).increase(POST_ID);
+    }
+
+    @Test
+    @DisplayName("빈 댓글은 작성할 수 없음")
+    void addComment_BlankContent() {
+        assertThrows(IllegalArgumentException.class,
+                () -> commentService.addComment(USER_ID, POST_ID, new CommentReqDTO(" ")));
+        verify(commentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("작성자가 아니면 댓글을 삭제할 수 없음")
+    void deleteComment_NotWriter() {
+        // given
+        Comment comment = new Comment(testPost, testUser, "댓글");
+        when(commentRepository.findById(COMMENT_ID)).thenReturn(Optional.of(comment));
+
+        // when & then
+        assertThrows(AccessDeniedException.class, () -> commentService.deleteComment(2L, COMMENT_ID));
+        verify(postCommentCounter, never()).decrease(any());
+    }
+
+    @Test
+    @DisplayName("댓글 목록은 작성자를 한 번에 조회하고 가득 찬 페이지에만 다음 커서 발급")
+    void getComments_HydratesWritersInOneQuery() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        when(commentRepository.findPageByPostId(eq(POST_ID), eq(0L), any(Pageable.class))).thenReturn(List.of(
+                new CommentSummaryDTO(5L, USER_ID, "first", now),
+                new CommentSummaryDTO(7L, USER_ID, "second", now)));
+        when(userRepository.findSummariesByIdIn(List.of(USER_ID)))
+                .thenReturn(List.of(new UserSummaryDTO(USER_ID, "testUser", null)));
+
+        // when
+        CommentPageResDTO result = commentService.getComments(POST_ID, null, 2);
+
+        // then
+        assertEquals(List.of(5L, 7L), result.comments().stream().map(CommentResDTO::id).toList());
+        assertEquals("testUser", result.comments().get(0).writer().nickname());
+        assertEquals(7L, result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("댓글 목록 페이지 크기는 검증 후 최대 크기로 제한")
+    void getComments_ValidatesSize() {
+        // given
+        when(commentRepository.findPageByPostId(eq(POST_ID), eq(0L), eq(PageRequest.of(0, PageSizes.MAX_PAGE_SIZE)))).thenReturn(List.of());
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> commentService.getComments(POST_ID, null, 0));
+        CommentPageResDTO result = commentService.getComments(POST_ID, null, 1000);
+
+        // then
+        assertEquals(ErrorCode.INVALID_PAGE_SIZE, exception.getErrorCode());
+        assertTrue(result.comments().isEmpty());
+    }
+}
@@ -0,0 +1,191 @@
+package com.devita.domain.feed.service;
+
+import com.devita.common.exception.ErrorCode;
+import com.devita.common.exception.IllegalArgumentException;
+import com.devita.common.util.PageSizes;
+import com.devita.domain.feed.dto.FeedResDTO;
+import com.devita.domain.feed.repository.FeedRedisRepository;
+import com.devita.domain.follow.repository.FollowRedisRepository;
+import com.devita.domain.follow.repository.FollowRepository;
+import com.devita.domain.post.dto.PostSummaryDTO;
+import com.devita.domain.post.dto.PostsResDTO;
+import com.devita.domain.post.repository.PostRepository;
+import com.devita.domain.post.service.like.LikeCounter;
+import com.devita.domain.post.service.like.LikeCounterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FeedServiceTest {
+    @Mock
+    private FeedRedisRepository feedRedisRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private FollowRepository followRepository;
+    @Mock
+    private FollowRedisRepository followRedisRepository;
+    @Mock
+    private LikeCounterRegistry likeCounterRegistry;
+    @Mock
+    private LikeCounter likeCounter;
+
+    private FeedService feedService;
+
+    private static final Long USER_ID = 1L;
+    private static final Long AUTHOR_ID = 2L;
+    private static final Long CELEBRITY_ID = 3L;
+
+    @BeforeEach
+    void setUp() {
+        // fan-out 을 호출한 스레드에서 바로 실행
+        feedService = new FeedService(feedRedisRepository, postRepository, followRepository, followRedisRepository, likeCounterRegistry, Runnable::run);
+        ReflectionTestUtils.setField(feedService, "followerThreshold", 3);
+    }
+
+    @Test
+    @DisplayName("게시물 작성 시 팔로워 타임라인에 전달")
+    void publish_FanOut() {
+        // given
+        when(followRepository.findFollowerIds(AUTHOR_ID)).thenReturn(List.of(10L, 11L));
+
+        // when
+        feedService.publish(AUTHOR_ID, 100L);
+
+        // then
+        verify(feedRedisRepository).pushToOutbox(AUTHOR_ID, 100L);
+        verify(feedRedisRepository).pushToTimelines(List.of(10L, 11L), 100L);
+    }
+
+    @Test
+    @DisplayName("팔로워 수가 기준 이상이면 fan-out 하지 않고 대형 작성자로 분류")
+    void publish_CelebritySkipsFanOut() {
+        // given
+        when(followRepository.findFollowerIds(AUTHOR_ID)).thenReturn(List.of(10L, 11L, 12L));
+
+        // when
+        feedService.publish(AUTHOR_ID, 100L);
+
+        // then
+        verify(feedRedisRepository).addCelebrity(AUTHOR_ID);
+        verify(feedRedisRepository, never()).pushToTimelines(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("타임라인과 대형 작성자 outbox 를 최신순으로 병합")
+    void getFeed_MergesCelebrityOutbox() {
+        // given
+        when(feedRedisRepository.getTimeline(USER_ID, null, 2)).thenReturn(List.of(90L, 70L));
+        when(feedRedisRepository.getCelebrityIds()).thenReturn(Set.of(CELEBRITY_ID));
+        when(followRedisRepository.isFollowing(USER_ID, List.of(CELEBRITY_ID))).thenReturn(List.of(true));
+        when(feedRedisRepository.getOutboxes(List.of(CELEBRITY_ID), null, 2)).thenReturn(Map.of(CELEBRITY_ID, List.of(95L, 60L)));
+        when(postRepository.findSummariesByIdIn(List.of(95L, 90L))).thenReturn(List.of(summary(90L), summary(95L)));
+        when(likeCounterRegistry.getActive()).thenReturn(likeCounter);
+
+        // when
+        FeedResDTO feed = feedService.getFeed(USER_ID, null, 2);
+
+        // then
+        assertEquals(List.of(95L, 90L), feed.posts().stream().map(PostsResDTO::id).toList());
+        assertEquals(90L, feed.nextCursor());
+        verify(followRepository, never()).findFollowingIdsIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("타임라인이 없으면 팔로우 관계로 재구성")
+    void getFeed_RebuildsMissingTimeline() {
+        // given
+        when(feedRedisRepository.getTimeline(USER_ID, 50L, 10)).thenReturn(null);
+        when(feedRedisRepository.getMaxSize()).thenReturn(800);
+        when(postRepository.findFeedPostIds(eq(USER_ID), any(Pageable.class))).thenReturn(List.of(60L, 40L, 30L));
+        when(feedRedisRepository.getCelebrityIds()).thenReturn(Set.of());
+        when(postRepository.findSummariesByIdIn(List.of(40L, 30L))).thenReturn(List.of(summary(40L)));
+        when(likeCounterRegistry.getActive()).thenReturn(likeCounter);
+
+        // when
+        FeedResDTO feed = feedService.getFeed(USER_ID, 50L, 10);
+
+        // then
+        verify(feedRedisRepository).saveTimeline(USER_ID, List.of(60L, 40L, 30L));
+        verify(feedRedisRepository).removeFromTimeline(USER_ID, List.of(30L));
+        assertEquals(List.of(40L), feed.posts().stream().map(PostsResDTO::id).toList());
+        assertNull(feed.nextCursor());
+    }
+
+    @Test
+    @DisplayName("만료된 대형 작성자 outbox 는 DB로 다시 만들어서 병합")
+    void getFeed_RebuildsMissingOutbox() {
+        // given
+        Map<Long, List<Long>> outboxes = new HashMap<>();
+        outboxes.put(CELEBRITY_ID, null);
+        when(feedRedisRepository.getTimeline(USER_ID, null, 2)).thenReturn(List.of(70L));
+        when(feedRedisRepository.getCelebrityIds()).thenReturn(Set.of(CELEBRITY_ID));
+        when(followRedisRepository.isFollowing(USER_ID, List.of(CELEBRITY_ID))).thenReturn(null);
+        when(followRepository.findFollowingIdsIn(USER_ID, List.of(CELEBRITY_ID))).thenReturn(List.of(CELEBRITY_ID));
+        when(feedRedisRepository.getOutboxes(List.of(CELEBRITY_ID), null, 2)).thenReturn(outboxes);
+        when(feedRedisRepository.getMaxSize()).thenReturn(800);
+        when(postRepository.findIdsByWriterId(eq(CELEBRITY_ID), any(Pageable.class))).thenReturn(List.of(95L, 60L));
+        when(postRepository.findSummariesByIdIn(List.of(95L, 70L))).thenReturn(List.of(summary(95L), summary(70L)));
+        when(likeCounterRegistry.getActive()).thenReturn(likeCounter);
+
+        // when
+        FeedResDTO feed = feedService.getFeed(USER_ID, null, 2);
+
+        // then
+        verify(feedRedisRepository).saveOutbox(CELEBRITY_ID, List.of(95L, 60L));
+        assertEquals(List.of(95L, 70L), feed.posts().stream().map(PostsResDTO::id).toList());
+    }
+
+    @Test
+    @DisplayName("피드 페이지 크기가 0 이하이면 예외")
+    void getFeed_InvalidSize() {
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> feedService.getFeed(USER_ID, null, 0));
+        assertEquals(ErrorCode.INVALID_PAGE_SIZE, exception.getErrorCode());
+        verify(feedRedisRepository, never()).getTimeline(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("피드 페이지 크기는 최대 크기로 제한")
+    void getFeed_CapsSize() {
+        // given
+        when(feedRedisRepository.getTimeline(USER_ID, null, PageSizes.MAX_PAGE_SIZE)).thenReturn(List.of(90L));
+        when(feedRedisRepository.getCelebrityIds()).thenReturn(Set.of());
+        when(postRepository.findSummariesByIdIn(List.of(90L))).thenReturn(List.of(summary(90L)));
+        when(likeCounterRegistry.getActive()).thenReturn(likeCounter);
+
+        // when
+        FeedResDTO feed = feedService.getFeed(USER_ID, null, 10_000);
+
+        // then
+        assertEquals(List.of(90L), feed.posts().stream().map(PostsResDTO::id).toList());
+        assertNull(feed.nextCursor());
+    }
+
+    private PostSummaryDTO summary(Long postId) {
+        return new PostSummaryDTO(postId, "title" + postId, "excerpt", 0L, 0L, 0L, LocalDateTime.now());
+    }
+}
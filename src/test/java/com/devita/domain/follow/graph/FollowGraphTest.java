@@ -0,0 +1,71 @@
+package com.devita.domain.follow.graph;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class FollowGraphTest {
+
+    @Test
+    @DisplayName("친구의 친구를 함께 아는 사람 수 순으로 추천하고 이미 팔로우한 사용자와 자기 자신은 제외")
+    void recommend_RanksByMutualCount() {
+        // given - 1 은 2, 3, 4 를 팔로우
+        FollowGraph graph = FollowGraph.builder()
+                .addEdge(1, 2).addEdge(1, 3).addEdge(1, 4)
+                .addEdge(2, 10).addEdge(3, 10).addEdge(4, 10)
+                .addEdge(2, 20).addEdge(3, 20)
+                .addEdge(2, 30)
+                .addEdge(2, 3).addEdge(2, 1)
+                // 중복 관계는 한 번만 계산
+                .addEdge(2, 30)
+                .build();
+
+        // when
+        Map<Long, FollowGraph.Recommendation> results = recommend(graph, 2, 1000);
+
+        // then
+        FollowGraph.Recommendation recommendation = results.get(1L);
+        assertArrayEquals(new long[]{10, 20}, recommendation.userIds());
+        assertArrayEquals(new int[]{3, 2}, recommendation.mutualCounts());
+        assertEquals(11, graph.getEdgeCount());
+        // 팔로잉이 없는 사용자는 결과 없음
+        assertFalse(results.containsKey(10L));
+    }
+
+    @Test
+    @DisplayName("팔로잉이 maxFanout 을 넘는 사용자는 경유지에서 제외")
+    void recommend_SkipsHighFanout() {
+        // given
+        FollowGraph graph = FollowGraph.builder()
+                .addEdge(1, 2).addEdge(1, 3)
+                .addEdge(2, 10).addEdge(2, 11).addEdge(2, 12)
+                .addEdge(3, 10)
+                .build();
+
+        // when
+        Map<Long, FollowGraph.Recommendation> results = recommend(graph, 10, 2);
+
+        // then
+        assertArrayEquals(new long[]{10}, results.get(1L).userIds());
+    }
+
+    private Map<Long, FollowGraph.Recommendation> recommend(FollowGraph graph, int limit, int maxFanout) {
+        Map<Long, FollowGraph.Recommendation> results = new ConcurrentHashMap<>();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            graph.recommend(pool, limit, maxFanout, (List<FollowGraph.Recommendation> batch) ->
+                    batch.forEach(recommendation -> results.put(recommendation.userId(), recommendation)));
+        } finally {
+            pool.shutdown();
+        }
+        return results;
+    }
+}
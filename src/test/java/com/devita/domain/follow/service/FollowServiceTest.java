@@ -0,0 +1,201 @@
+package com.devita.domain.follow.service;
+
+import com.devita.common.exception.ErrorCode;
+import com.devita.common.exception.IllegalArgumentException;
+import com.devita.domain.feed.service.FeedService;
+import com.devita.domain.follow.domain.Follow;
+import com.devita.domain.follow.dto.FollowCountDTO;
+import com.devita.domain.follow.dto.FollowPageResDTO;
+import com.devita.domain.follow.dto.FollowRecommendationDTO;
+import com.devita.domain.follow.dto.FollowResponseDTO;
+import com.devita.domain.follow.dto.FollowUserDTO;
+import com.devita.domain.follow.repository.FollowRedisRepository;
+import com.devita.domain.follow.repository.FollowRepository;
+import com.devita.domain.user.domain.AuthProvider;
+import com.devita.domain.user.domain.User;
+import com.devita.domain.user.dto.UserFollowCountDTO;
+import com.devita.domain.user.dto.UserSummaryDTO;
+import com.devita.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FollowServiceTest {
+    @Mock
+    private FollowRepository followRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private FollowRedisRepository followRedisRepository;
+    @Mock
+    private FeedService feedService;
+
+    @InjectMocks
+    private FollowService followService;
+
+    private static final Long USER_ID = 1L;
+    private static final Long TARGET_USER_ID = 2L;
+
+    @Test
+    @DisplayName("팔로우 시 팔로우 수를 갱신하고 팔로잉 id set 에 한 건만 반영")
+    void follow_UpdatesFollowingSet() {
+        // given
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user(USER_ID)));
+        when(userRepository.findById(TARGET_USER_ID)).thenReturn(Optional.of(user(TARGET_USER_ID)));
+
+        // when
+        followService.follow(USER_ID, TARGET_USER_ID);
+
+        // then
+        verify(followRepository).save(any(Follow.class));
+        verify(userRepository).addFollowingCount(USER_ID, 1L);
+        verify(userRepository).addFollowerCount(TARGET_USER_ID, 1L);
+        verify(followRedisRepository).addFollow(USER_ID, TARGET_USER_ID);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋된 뒤에 Redis set 과 피드를 갱신")
+    void unfollow_UpdatesRedisAfterCommit() {
+        // given
+        Follow follow = Follow.builder().follower(user(USER_ID)).following(user(TARGET_USER_ID)).build();
+        when(followRepository.findByFollowerIdAndFollowingId(USER_ID, TARGET_USER_ID)).thenReturn(Optional.of(follow));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            followService.unfollow(USER_ID, TARGET_USER_ID);
+
+            // then
+            verify(followRepository).delete(follow);
+            verify(followRedisRepository, never()).removeFollow(any(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(followRedisRepository).removeFollow(USER_ID, TARGET_USER_ID);
+            verify(feedService).onUnfollow(USER_ID, TARGET_USER_ID);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("팔로우 수는 follow 테이블을 세지 않고 사용자에 저장된 값을 반환")
+    void getFollowCount_ReadsStoredCounts() {
+        // given
+        when(userRepository.findFollowCount(USER_ID)).thenReturn(Optional.of(new UserFollowCountDTO(USER_ID, 3L, 5L)));
+
+        // when
+        FollowCountDTO followCount = followService.getFollowCount(USER_ID);
+
+        // then
+        assertEquals(3L, followCount.followingCount());
+        assertEquals(5L, followCount.followerCount());
+        verify(followRepository, never()).countByFollowerId(any());
+    }
+
+    @Test
+    @DisplayName("팔로워 목록은 한 번의 join 쿼리로 읽고 가득 찬 페이지에만 다음 커서 발급")
+    void getFollowerPage_KeysetByFollowId() {
+        // given
+        when(followRepository.findFollowerPage(eq(USER_ID), eq(Long.MAX_VALUE), any(Pageable.class))).thenReturn(List.of(
+                new FollowUserDTO(30L, TARGET_USER_ID, "target", null),
+                new FollowUserDTO(20L, 3L, "other", null)));
+
+        // when
+        FollowPageResDTO followers = followService.getFollowerPage(USER_ID, null, 2);
+
+        // then
+        assertEquals(List.of(TARGET_USER_ID, 3L), followers.users().stream().map(FollowResponseDTO::getUserId).toList());
+        assertEquals(20L, followers.nextCursor());
+        verify(userRepository, never()).findSummariesByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("여러 사용자 팔로우 여부는 팔로잉 set 에서 한 번에 확인")
+    void isFollowing_BatchFromSet() {
+        // given
+        when(followRedisRepository.isFollowing(USER_ID, List.of(TARGET_USER_ID, 3L))).thenReturn(List.of(true, false));
+
+        // when
+        Map<Long, Boolean> result = followService.isFollowing(USER_ID, List.of(TARGET_USER_ID, 3L, TARGET_USER_ID));
+
+        // then
+        assertEquals(Map.of(TARGET_USER_ID, true, 3L, false), result);
+        verify(followRepository, never()).findFollowingIdsIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("팔로워 목록 페이지 크기가 0 이하이면 예외")
+    void getFollowerPage_InvalidSize() {
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> followService.getFollowerPage(USER_ID, null, 0));
+        assertEquals(ErrorCode.INVALID_PAGE_SIZE, exception.getErrorCode());
+        verify(followRepository, never()).findFollowerPage(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("팔로잉 set 이 없으면 DB에서 팔로잉 id 를 읽어서 set 을 다시 만든 뒤 확인")
+    void isFollowing_BatchRebuildsMissingSet() {
+        // given
+        when(followRedisRepository.isFollowing(USER_ID, List.of(TARGET_USER_ID, 3L))).thenReturn(null);
+        when(followRedisRepository.getFollowingsVersion(USER_ID)).thenReturn("3");
+        when(followRepository.findFollowingIds(USER_ID)).thenReturn(List.of(3L, 4L));
+
+        // when
+        Map<Long, Boolean> result = followService.isFollowing(USER_ID, List.of(TARGET_USER_ID, 3L));
+
+        // then
+        assertEquals(Map.of(TARGET_USER_ID, false, 3L, true), result);
+        verify(followRedisRepository).saveFollowingIds(USER_ID, Set.of(3L, 4L), "3");
+        verify(followRepository, never()).findFollowingIdsIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("추천 계산 이후 팔로우한 사용자는 팔로잉 set 에서 한 번에 확인해서 제외")
+    void getRecommendations_ExcludesFollowed() {
+        // given
+        Map<Long, Integer> recommendations = new LinkedHashMap<>();
+        recommendations.put(TARGET_USER_ID, 5);
+        recommendations.put(3L, 2);
+        when(followRedisRepository.getRecommendations(USER_ID)).thenReturn(recommendations);
+        when(followRedisRepository.isFollowing(USER_ID, List.of(TARGET_USER_ID, 3L))).thenReturn(List.of(true, false));
+        when(userRepository.findSummariesByIdIn(List.of(3L))).thenReturn(List.of(new UserSummaryDTO(3L, "other", null)));
+
+        // when
+        List<FollowRecommendationDTO> result = followService.getRecommendations(USER_ID);
+
+        // then
+        assertEquals(List.of(new FollowRecommendationDTO(3L, "other", null, 2)), result);
+        verify(followRepository, never()).findFollowingIds(any());
+    }
+
+    private User user(Long userId) {
+        User user = User.builder()
+                .email(userId + "@test.com")
+                .nickname("user" + userId)
+                .provider(AuthProvider.KAKAO)
+                .build();
+        user.setId(userId);
+        return user;
+    }
+}
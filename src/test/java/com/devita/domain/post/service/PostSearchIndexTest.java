@@ -0,0 +1,64 @@
+package com.devita.domain.post.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostSearchIndexTest {
+
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        postSearchIndex = new PostSearchIndex();
+        postSearchIndex.index(1L, "스프링 트랜잭션 정리", "전파 속성과 격리 수준을 정리했습니다.");
+        postSearchIndex.index(2L, "레디스 캐시 적용기", "스프링 부트에서 레디스 캐시를 적용한 후기");
+        postSearchIndex.index(3L, "알고리즘 스터디", "이번 주 문제 풀이");
+    }
+
+    @Test
+    @DisplayName("바이그램으로 부분 일치 검색")
+    void search_MatchesPartialKoreanWord() {
+        // when
+        List<Long> result = postSearchIndex.search("레디스", 10);
+
+        // then
+        assertEquals(List.of(2L), result);
+    }
+
+    @Test
+    @DisplayName("제목에 포함된 게시물이 더 높은 순위")
+    void search_RanksTitleMatchFirst() {
+        // when
+        List<Long> result = postSearchIndex.search("스프링", 10);
+
+        // then
+        assertEquals(List.of(1L, 2L), result);
+    }
+
+    @Test
+    @DisplayName("수정된 게시물은 이전 내용으로 검색되지 않음")
+    void index_ReplacesPreviousContent() {
+        // when
+        postSearchIndex.index(3L, "자바 스터디", "스트림 정리");
+
+        // then
+        assertTrue(postSearchIndex.search("알고리즘", 10).isEmpty());
+        assertEquals(List.of(3L), postSearchIndex.search("자바", 10));
+    }
+
+    @Test
+    @DisplayName("삭제된 게시물은 검색되지 않음")
+    void remove_Success() {
+        // when
+        postSearchIndex.remove(2L);
+
+        // then
+        assertTrue(postSearchIndex.search("레디스", 10).isEmpty());
+        assertEquals(2, postSearchIndex.size());
+    }
+}
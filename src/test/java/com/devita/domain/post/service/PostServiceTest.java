@@ -2,15 +2,29 @@ package com.devita.domain.post.service;
 
 import com.devita.common.exception.AccessDeniedException;
 import com.devita.common.exception.ErrorCode;
+import com.devita.common.exception.IllegalArgumentException;
 import com.devita.common.exception.ResourceNotFoundException;
 import com.devita.common.exception.SecurityTokenException;
+import com.devita.domain.comment.repository.CommentRepository;
+import com.devita.domain.feed.service.FeedService;
 import com.devita.domain.post.domain.Post;
+import com.devita.domain.post.dto.LikeResultDTO;
+import com.devita.domain.post.dto.PostCursor;
+import com.devita.domain.post.dto.PostCursorResDTO;
+import com.devita.domain.post.dto.PostDetailDTO;
+import com.devita.domain.post.dto.PostLikersResDTO;
 import com.devita.domain.post.dto.PostReqDTO;
 import com.devita.domain.post.dto.PostResDTO;
+import com.devita.domain.post.dto.PostSliceResDTO;
+import com.devita.domain.post.dto.PostSummaryDTO;
 import com.devita.domain.post.dto.PostsResDTO;
+import com.devita.domain.post.repository.PostLikeRedisRepository;
 import com.devita.domain.post.repository.PostRepository;
+import com.devita.domain.post.service.like.LikeCounter;
+import com.devita.domain.post.service.like.LikeCounterRegistry;
 import com.devita.domain.user.domain.AuthProvider;
 import com.devita.domain.user.domain.User;
+import com.devita.domain.user.dto.UserSummaryDTO;
 import com.devita.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,15 +33,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,12 +56,35 @@ class PostServiceTest {
     private PostRepository postRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private PostViewCounter postViewCounter;
+    @Mock
+    private PostCommentCounter postCommentCounter;
+    @Mock
+    private LikeCounterRegistry likeCounterRegistry;
+    @Mock
+    private PostDetailCache postDetailCache;
+    @Mock
+    private LikeCounter likeCounter;
+    @Mock
+    private PostTrendingRanker postTrendingRanker;
+    @Mock
+    private PostSearchIndex postSearchIndex;
+    @Mock
+    private FeedService feedService;
+    @Mock
+    private PostCountPublisher postCountPublisher;
+    @Mock
+    private PostLikeRedisRepository postLikeRedisRepository;
+    @Mock
+    private CommentRepository commentRepository;
 
     @InjectMocks
     private PostService postService;
 
     private User testUser;
     private Post testPost;
+    private PostSummaryDTO testSummary;
     private PostReqDTO postReqDTO;
 
     private static final Long USER_ID = 1L;
@@ -66,6 +108,8 @@ class PostServiceTest {
                 .build();
         testPost.setId(POST_ID);
 
+        testSummary = new PostSummaryDTO(POST_ID, "Test Title", "Test Description", 0L, 0L, 0L, LocalDateTime.of(2024, 11, 1, 12, 0));
+
         postReqDTO = PostReqDTO.builder()
                 .title("Test ReqDTO Title")
                 .description("Test ReqDTO Description")
@@ -91,6 +135,8 @@ class PostServiceTest {
         assertEquals(postReqDTO.title(), result.getTitle());
         assertEquals(postReqDTO.description(), result.getDescription());
         assertEquals(testUser, result.getWriter());
+        verify(postSearchIndex).index(2L, postReqDTO.title(), postReqDTO.description());
+        verify(feedService).publish(USER_ID, 2L);
     }
 
     @Test
@@ -103,7 +149,10 @@ class PostServiceTest {
         postService.deletePost(USER_ID, POST_ID);
 
         // then
+        verify(commentRepository).deleteByPostId(POST_ID);
         verify(postRepository).delete(testPost);
+        verify(postDetailCache).evict(POST_ID);
+        verify(feedService).unpublish(USER_ID, POST_ID);
     }
 
     @Test
@@ -130,7 +179,7 @@ class PostServiceTest {
     @DisplayName("게시글 단건 조회 성공")
     void getPost_Success() {
         // given
-        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(testPost));
+        givenPostDetailCacheMiss();
 
         // when
         PostResDTO result = postService.getPost(USER_ID, POST_ID);
@@ -145,36 +194,145 @@ class PostServiceTest {
     @DisplayName("게시글 목록 조회 성공")
     void getPosts_Success() {
         // given
-        List<Post> posts = List.of(testPost);
-        Page<Post> postPage = new PageImpl<>(posts);
-
-        when(postRepository.findAll(any(Pageable.class))).thenReturn(postPage);
+        givenActiveLikeCounter();
+        when(postRepository.findSummaries(any(Pageable.class))).thenReturn(List.of(testSummary));
 
         // when
         List<PostsResDTO> result = postService.getPosts(0, 10);
 
         // then
         assertFalse(result.isEmpty());
-        assertEquals(testPost.getTitle(), result.get(0).title());
+        assertEquals(testSummary.title(), result.get(0).title());
+        assertEquals(testSummary.excerpt(), result.get(0).description());
+    }
+
+    @Test
+    @DisplayName("게시글 목록의 좋아요 수는 실시간 값으로 덮어씀")
+    void getPosts_OverlaysLiveLikes() {
+        // given
+        givenActiveLikeCounter();
+        when(postRepository.findSummaries(any(Pageable.class))).thenReturn(List.of(testSummary));
+        when(likeCounter.getLiveCounts(Map.of(POST_ID, testSummary.likes()))).thenReturn(Map.of(POST_ID, 42L));
+
+        // when
+        List<PostsResDTO> result = postService.getPosts(0, 10);
+
+        // then
+        assertEquals(42L, result.get(0).likes());
+    }
+
+    @Test
+    @DisplayName("게시글 커서 기반 목록 조회 성공")
+    void getPostsByCursor_Success() {
+        // given
+        givenActiveLikeCounter();
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2024, 11, 1, 12, 0), 10L);
+
+        when(postRepository.findLatestBefore(eq(cursor.createdAt()), eq(cursor.id()), any(Pageable.class)))
+                .thenReturn(List.of(testSummary));
+
+        // when
+        PostCursorResDTO result = postService.getPostsByCursor(cursor.encode(), 1);
+
+        // then
+        assertEquals(testSummary.title(), result.posts().get(0).title());
+        assertNotNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회 시 예외 발생")
+    void getPostsByCursor_InvalidCursor() {
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> postService.getPostsByCursor("invalid", 10));
+
+        // then
+        assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("커서 조회 페이지 크기는 1 이상만 허용하고 최대 크기로 제한")
+    void getPostsByCursor_ValidatesSize() {
+        // given
+        when(postRepository.findLatest(any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> postService.getPostsByCursor(null, 0));
+        postService.getPostsByCursor(null, 10_000);
+
+        // then
+        assertEquals(ErrorCode.INVALID_PAGE_SIZE, exception.getErrorCode());
+        verify(postRepository).findLatest(PageRequest.of(0, 100));
+    }
+
+    @Test
+    @DisplayName("검색 결과 크기는 최대 크기로 제한")
+    void searchPosts_CapsSize() {
+        // given
+        when(postSearchIndex.search("spring", 100)).thenReturn(List.of());
+
+        // when
+        List<PostsResDTO> result = postService.searchPosts("spring", 10_000);
+
+        // then
+        assertTrue(result.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> postService.searchPosts("spring", 0));
     }
 
     @Test
     @DisplayName("사용자의 게시글 목록 조회 성공")
     void getMyPosts_Success() {
         // given
-        List<Post> posts = List.of(testPost);
-        Page<Post> postPage = new PageImpl<>(posts);
+        givenActiveLikeCounter();
+        Slice<PostSummaryDTO> postSlice = new SliceImpl<>(List.of(testSummary));
 
-        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(testUser));
-        when(postRepository.findByWriterIdWithFetchJoin(eq(USER_ID), any(Pageable.class)))
-                .thenReturn(postPage);
+        when(postRepository.findSliceByWriterId(eq(USER_ID), any(Pageable.class)))
+                .thenReturn(postSlice);
 
         // when
         List<PostsResDTO> result = postService.getMyPosts(USER_ID, 0, 10);
 
         // then
         assertFalse(result.isEmpty());
-        assertEquals(testPost.getTitle(), result.get(0).title());
+        assertEquals(testSummary.title(), result.get(0).title());
+        assertEquals(testSummary.excerpt(), result.get(0).description());
+    }
+
+    @Test
+    @DisplayName("사용자의 게시글 목록 조회 시 다음 페이지 여부 반환")
+    void getMyPostSlice_HasNext() {
+        // given
+        givenActiveLikeCounter();
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<PostSummaryDTO> postSlice = new SliceImpl<>(List.of(testSummary), pageable, true);
+
+        when(postRepository.findSliceByWriterId(eq(USER_ID), any(Pageable.class)))
+                .thenReturn(postSlice);
+
+        // when
+        PostSliceResDTO result = postService.getMyPostSlice(USER_ID, 0, 1);
+
+        // then
+        assertEquals(1, result.posts().size());
+        assertTrue(result.hasNext());
+    }
+
+    @Test
+    @DisplayName("작성한 게시물이 있으면 사용자를 따로 조회하지 않고, 빈 페이지일 때만 사용자 확인")
+    void getMyPosts_ChecksUserOnlyWhenEmpty() {
+        // given
+        givenActiveLikeCounter();
+        when(postRepository.findSliceByWriterId(eq(USER_ID), any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(testSummary)));
+        when(postRepository.findSliceByWriterId(eq(2L), any(Pageable.class))).thenReturn(new SliceImpl<>(List.of()));
+        when(userRepository.existsById(2L)).thenReturn(false);
+
+        // when
+        postService.getMyPosts(USER_ID, 0, 10);
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> postService.getMyPosts(2L, 0, 10));
+
+        // then
+        verify(userRepository, never()).existsById(USER_ID);
+        verify(userRepository, never()).findById(any());
+        assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
     }
 
     @Test
@@ -227,13 +385,141 @@ class PostServiceTest {
                 .build();
         otherUser.setId(2L);
 
-        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(testPost));
+        givenPostDetailCacheMiss();
+        when(postViewCounter.getPending(POST_ID)).thenReturn(1L);
+
+        // when
+        PostResDTO result = postService.getPost(2L, POST_ID);
+
+        // then
+        assertEquals(1L, result.views());
+        verify(postViewCounter).increase(POST_ID);
+        verify(postCountPublisher).recordView(POST_ID);
+        verify(postRepository, never()).save(any(Post.class));
+    }
+
+    @Test
+    @DisplayName("좋아요는 설정된 전략에 위임")
+    void increaseLike_DelegatesToActiveCounter() {
+        // given
+        when(likeCounterRegistry.getActive()).thenReturn(likeCounter);
+        when(likeCounter.increase(USER_ID, POST_ID)).thenReturn(new LikeResultDTO(3L, true));
+
+        // when
+        Long likes = postService.increaseLike(USER_ID, POST_ID);
+
+        // then
+        assertEquals(3L, likes);
+        verify(postTrendingRanker).record(POST_ID, PostTrendingRanker.LIKE_WEIGHT);
+        verify(postCountPublisher).recordLikes(POST_ID, 3L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 바뀌지 않은 반복 좋아요는 랭킹 점수에 반영하지 않음")
+    void increaseLike_Unchanged() {
+        // given
+        when(likeCounterRegistry.getActive()).thenReturn(likeCounter);
+        when(likeCounter.increase(USER_ID, POST_ID)).thenReturn(new LikeResultDTO(3L, false));
+
+        // when
+        Long likes = postService.increaseLike(USER_ID, POST_ID);
+
+        // then
+        assertEquals(3L, likes);
+        verify(postTrendingRanker, never()).record(anyLong(), anyLong());
+        verify(postCountPublisher, never()).recordLikes(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("인기 게시물은 랭킹 순서대로 반환")
+    void getTrendingPosts_KeepsRankOrder() {
+        // given
+        givenActiveLikeCounter();
+        PostSummaryDTO second = new PostSummaryDTO(2L, "Second", "Second", 0L, 0L, 0L, LocalDateTime.of(2024, 11, 2, 12, 0));
+        when(postTrendingRanker.getTopPostIds(2)).thenReturn(List.of(2L, POST_ID));
+        when(postRepository.findSummariesByIdIn(List.of(2L, POST_ID))).thenReturn(List.of(testSummary, second));
+
+        // when
+        List<PostsResDTO> result = postService.getTrendingPosts(2);
+
+        // then
+        assertEquals(List.of(2L, POST_ID), result.stream().map(PostsResDTO::id).toList());
+    }
+
+    @Test
+    @DisplayName("좋아요한 사용자는 SSCAN 순서대로 반환하고 탈퇴한 사용자는 제외")
+    void getLikers_HydratesInOneQuery() {
+        // given
+        when(postRepository.existsById(POST_ID)).thenReturn(true);
+        when(postLikeRedisRepository.scanLikers(POST_ID, "0", 20))
+                .thenReturn(new PostLikeRedisRepository.LikerPage(List.of(3L, 2L, 4L), "17"));
+        when(userRepository.findSummariesByIdIn(List.of(3L, 2L, 4L)))
+                .thenReturn(List.of(new UserSummaryDTO(2L, "second", null), new UserSummaryDTO(3L, "third", null)));
 
         // when
-        postService.getPost(2L, POST_ID);
+        PostLikersResDTO result = postService.getLikers(POST_ID, null, 20);
 
         // then
-        verify(postRepository).save(testPost);
-        assertEquals(1, testPost.getViews());
+        assertEquals(List.of(3L, 2L), result.likers().stream().map(UserSummaryDTO::userId).toList());
+        assertEquals("17", result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("샤드 모드 게시물의 좋아요한 사용자 커서는 set 순번과 SSCAN 커서로 전달")
+    void getLikers_ShardedCursor() {
+        // given
+        when(postRepository.existsById(POST_ID)).thenReturn(true);
+        when(postLikeRedisRepository.scanLikers(POST_ID, "2.17", 20))
+                .thenReturn(new PostLikeRedisRepository.LikerPage(List.of(), "3.0"));
+
+        // when
+        PostLikersResDTO result = postService.getLikers(POST_ID, "2.17", 20);
+
+        // then
+        assertEquals("3.0", result.nextCursor());
+        assertThrows(IllegalArgumentException.class, () -> postService.getLikers(POST_ID, "-1.17", 20));
+    }
+
+    @Test
+    @DisplayName("좋아요한 사용자 목록 조회 시 커서와 페이지 크기를 SSCAN 전에 검증")
+    void getLikers_ValidatesCursorAndSize() {
+        // when
+        IllegalArgumentException invalidCursor = assertThrows(IllegalArgumentException.class,
+                () -> postService.getLikers(POST_ID, "abc", 20));
+        IllegalArgumentException invalidSize = assertThrows(IllegalArgumentException.class,
+                () -> postService.getLikers(POST_ID, null, 0));
+
+        // then
+        assertEquals(ErrorCode.INVALID_CURSOR, invalidCursor.getErrorCode());
+        assertEquals(ErrorCode.INVALID_PAGE_SIZE, invalidSize.getErrorCode());
+        verify(postLikeRedisRepository, never()).scanLikers(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("좋아요한 사용자 목록 페이지 크기는 100으로 제한")
+    void getLikers_CapsSize() {
+        // given
+        when(postRepository.existsById(POST_ID)).thenReturn(true);
+        when(postLikeRedisRepository.scanLikers(POST_ID, "17", 100))
+                .thenReturn(new PostLikeRedisRepository.LikerPage(List.of(), null));
+
+        // when
+        PostLikersResDTO result = postService.getLikers(POST_ID, "17", 1000);
+
+        // then
+        assertEquals(List.of(), result.likers());
+    }
+
+    private void givenActiveLikeCounter() {
+        when(likeCounterRegistry.getActive()).thenReturn(likeCounter);
+    }
+
+    // 캐시에 없어서 DB에서 읽는 상황
+    private void givenPostDetailCacheMiss() {
+        when(postRepository.findByIdWithWriter(POST_ID)).thenReturn(Optional.of(testPost));
+        when(postDetailCache.get(eq(POST_ID), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, PostDetailDTO>>getArgument(1).apply(POST_ID));
+        when(likeCounterRegistry.getActive()).thenReturn(likeCounter);
+        when(likeCounter.getLiveCount(eq(POST_ID), any())).thenAnswer(invocation -> invocation.getArgument(1));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,144 @@
+package com.devita.domain.post.service.like;
+
+import com.devita.domain.post.domain.Post;
+import com.devita.domain.post.repository.PostLikeRedisRepository;
+import com.devita.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("unchecked")
+class CrdtLikeCounterTest {
+    @Mock
+    private PostLikeRedisRepository postLikeRedisRepository;
+    @Mock
+    private PostRepository postRepository;
+
+    private CrdtLikeCounter crdtLikeCounter;
+
+    private static final Long USER_ID = 1L;
+    private static final Long POST_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        crdtLikeCounter = new CrdtLikeCounter(postLikeRedisRepository, postRepository, "", 600, 24, 1000);
+    }
+
+    @Test
+    @DisplayName("좋아요는 노드 상태에만 반영하고 병합 전까지 Redis 에 쓰지 않음")
+    void increase_RecordsLocally() {
+        // given
+        when(postLikeRedisRepository.getCounts(List.of(POST_ID))).thenReturn(Map.of(POST_ID, 10L));
+
+        // when
+        crdtLikeCounter.increase(USER_ID, POST_ID);
+        Long likes = crdtLikeCounter.increase(2L, POST_ID).likes();
+
+        // then
+        assertEquals(12L, likes);
+        verify(postLikeRedisRepository, never()).mergeNodeStates(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 반복 좋아요는 변경 없음으로 반환")
+    void increase_RepeatedIsUnchanged() {
+        // given
+        when(postLikeRedisRepository.getCounts(List.of(POST_ID))).thenReturn(Map.of(POST_ID, 10L));
+
+        // when
+        boolean first = crdtLikeCounter.increase(USER_ID, POST_ID).changed();
+        boolean repeated = crdtLikeCounter.increase(USER_ID, POST_ID).changed();
+        boolean undo = crdtLikeCounter.decrease(USER_ID, POST_ID).changed();
+
+        // then
+        assertTrue(first);
+        assertFalse(repeated);
+        assertTrue(undo);
+    }
+
+    @Test
+    @DisplayName("병합 시 누적값과 사용자 기록을 보내고 병합 결과로 좋아요 수 갱신")
+    void merge_SendsNodeState() {
+        // given
+        when(postLikeRedisRepository.getCounts(List.of(POST_ID))).thenReturn(Map.of(POST_ID, 10L));
+        crdtLikeCounter.increase(USER_ID, POST_ID);
+        crdtLikeCounter.decrease(2L, POST_ID);
+        // 이미 좋아요하지 않은 사용자의 취소는 Redis 에서 상쇄됨
+        when(postLikeRedisRepository.mergeNodeStates(anyList(), any(Duration.class))).thenReturn(List.of(11L));
+
+        // when
+        crdtLikeCounter.merge();
+
+        // then
+        ArgumentCaptor<List<PostLikeRedisRepository.NodeMerge>> merges = ArgumentCaptor.forClass(List.class);
+        verify(postLikeRedisRepository).mergeNodeStates(merges.capture(), any(Duration.class));
+        PostLikeRedisRepository.NodeMerge merge = merges.getValue().get(0);
+        assertEquals(1L, merge.likes());
+        assertEquals(1L, merge.unlikes());
+        assertEquals(1L, merge.sequence());
+        assertEquals(List.of("+1", "-2"), merge.userOps());
+        // 처음 병합할 때 종료된 노드의 field 정리 요청
+        assertNotNull(merge.pruneBefore());
+        assertEquals(11L, crdtLikeCounter.getCount(POST_ID));
+    }
+
+    @Test
+    @DisplayName("Redis 에 좋아요 수가 없는 게시물만 DB 값으로 초기화하면서 다시 병합")
+    void merge_SeedsMissingCount() {
+        // given
+        when(postLikeRedisRepository.getCounts(List.of(POST_ID))).thenReturn(Map.of(POST_ID, 10L));
+        crdtLikeCounter.increase(USER_ID, POST_ID);
+        Post post = Post.builder().title("Test Title").description("Test Description").build();
+        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
+        List<Long> missing = new ArrayList<>();
+        missing.add(null);
+        when(postLikeRedisRepository.mergeNodeStates(anyList(), any(Duration.class))).thenReturn(missing);
+        when(postLikeRedisRepository.mergeNodeState(any(PostLikeRedisRepository.NodeMerge.class), eq(0L), any(Duration.class))).thenReturn(11L);
+
+        // when
+        crdtLikeCounter.merge();
+
+        // then
+        assertEquals(11L, crdtLikeCounter.getCount(POST_ID));
+    }
+
+    @Test
+    @DisplayName("변경이 없는 게시물은 갱신 주기가 지나기 전까지 다시 읽지 않음")
+    void merge_ThrottlesRefresh() {
+        // given
+        when(postLikeRedisRepository.getCounts(List.of(POST_ID))).thenReturn(Map.of(POST_ID, 10L));
+        crdtLikeCounter.increase(USER_ID, POST_ID);
+        when(postLikeRedisRepository.mergeNodeStates(anyList(), any(Duration.class))).thenReturn(List.of(11L));
+        crdtLikeCounter.merge();
+
+        // when
+        crdtLikeCounter.merge();
+        crdtLikeCounter.merge();
+
+        // then - 상태를 만들 때 한 번만 읽음
+        verify(postLikeRedisRepository, times(1)).getCounts(List.of(POST_ID));
+    }
+}
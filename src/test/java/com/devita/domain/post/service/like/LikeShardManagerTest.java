@@ -0,0 +1,105 @@
+package com.devita.domain.post.service.like;
+
+import com.devita.domain.post.repository.PostLikeRedisRepository;
+import com.devita.domain.post.repository.PostLikeRedisRepository.ShardLayout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LikeShardManagerTest {
+    @Mock
+    private PostLikeRedisRepository postLikeRedisRepository;
+
+    private LikeShardManager likeShardManager;
+
+    private static final Long POST_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        likeShardManager = new LikeShardManager(postLikeRedisRepository, 100, 16, 5, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeShardManager.shutdown();
+    }
+
+    @Test
+    @DisplayName("샤드 수는 샤드당 요청 수가 기준 이하가 되는 2의 거듭제곱으로 최대값까지만 늘림")
+    void targetShards() {
+        assertEquals(1, likeShardManager.targetShards(100));
+        assertEquals(2, likeShardManager.targetShards(101));
+        assertEquals(4, likeShardManager.targetShards(350));
+        assertEquals(16, likeShardManager.targetShards(100_000));
+    }
+
+    @Test
+    @DisplayName("요청이 몰린 게시물만 샤드 수를 늘리고 새 배치를 캐시")
+    void adjustShardCounts_GrowsHotPost() {
+        // given
+        ShardLayout grown = new ShardLayout(4, 1, 0L);
+        when(postLikeRedisRepository.getShardLayouts(List.of(POST_ID))).thenReturn(Map.of());
+        when(postLikeRedisRepository.growShards(POST_ID, 4)).thenReturn(grown);
+        for (int i = 0; i < 350; i++) {
+            likeShardManager.recordRequest(POST_ID);
+        }
+
+        // when
+        likeShardManager.adjustShardCounts();
+
+        // then
+        assertEquals(grown, likeShardManager.getLayout(POST_ID));
+        verify(postLikeRedisRepository, times(1)).getShardLayouts(List.of(POST_ID));
+    }
+
+    @Test
+    @DisplayName("샤드 수를 늘린 직후에는 다른 노드가 새 배치를 읽을 때까지 사용자를 옮기지 않음")
+    void migrate_WaitsForLayoutCache() {
+        // given
+        ShardLayout layout = new ShardLayout(4, 1, System.currentTimeMillis());
+        when(postLikeRedisRepository.getMigratingPostIds()).thenReturn(Set.of(POST_ID));
+        when(postLikeRedisRepository.getShardLayouts(List.of(POST_ID))).thenReturn(Map.of(POST_ID, layout));
+
+        // when
+        likeShardManager.migrate();
+
+        // then
+        verify(postLikeRedisRepository, never()).migrateShards(any(), any(), anyInt());
+        verify(postLikeRedisRepository, never()).settleShards(any(), any());
+    }
+
+    @Test
+    @DisplayName("이전 배치가 빌 때까지 사용자를 옮긴 뒤 배치를 확정")
+    void migrate_SettlesWhenEmpty() {
+        // given
+        ShardLayout layout = new ShardLayout(4, 1, System.currentTimeMillis() - 60_000);
+        when(postLikeRedisRepository.getMigratingPostIds()).thenReturn(Set.of(POST_ID));
+        when(postLikeRedisRepository.getShardLayouts(List.of(POST_ID))).thenReturn(Map.of(POST_ID, layout));
+        when(postLikeRedisRepository.migrateShards(POST_ID, layout, 500)).thenReturn(false, true);
+        when(postLikeRedisRepository.settleShards(POST_ID, layout)).thenReturn(true);
+
+        // when
+        likeShardManager.migrate();
+
+        // then
+        verify(postLikeRedisRepository, times(2)).migrateShards(POST_ID, layout, 500);
+        verify(postLikeRedisRepository).settleShards(POST_ID, layout);
+    }
+}
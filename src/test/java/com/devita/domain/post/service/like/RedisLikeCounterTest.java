@@ -0,0 +1,131 @@
+package com.devita.domain.post.service.like;
+
+import com.devita.domain.post.domain.Post;
+import com.devita.domain.post.dto.LikeResultDTO;
+import com.devita.domain.post.repository.PostLikeRedisRepository;
+import com.devita.domain.post.repository.PostLikeRedisRepository.ShardLayout;
+import com.devita.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisLikeCounterTest {
+    @Mock
+    private PostLikeRedisRepository postLikeRedisRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private LikeShardManager likeShardManager;
+
+    @InjectMocks
+    private RedisLikeCounter redisLikeCounter;
+
+    private Post testPost;
+
+    private static final Long USER_ID = 1L;
+    private static final Long POST_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        testPost = Post.builder()
+                .title("Test Title")
+                .description("Test Description")
+                .build();
+        testPost.setId(POST_ID);
+        when(likeShardManager.getLayout(POST_ID)).thenReturn(ShardLayout.UNSHARDED);
+    }
+
+    @Test
+    @DisplayName("좋아요 시 Redis 좋아요 수 반환")
+    void increase_Success() {
+        // given
+        when(postLikeRedisRepository.like(POST_ID, USER_ID, null)).thenReturn(new LikeResultDTO(3L, true));
+
+        // when
+        LikeResultDTO result = redisLikeCounter.increase(USER_ID, POST_ID);
+
+        // then
+        assertEquals(3L, result.likes());
+        assertTrue(result.changed());
+        verify(postRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Redis에 좋아요 수가 없으면 DB 값으로 초기화")
+    void increase_SeedFromDb() {
+        // given
+        testPost.updateLikes(5L);
+        when(postLikeRedisRepository.like(POST_ID, USER_ID, null)).thenReturn(null);
+        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(testPost));
+        when(postLikeRedisRepository.like(POST_ID, USER_ID, 5L)).thenReturn(new LikeResultDTO(6L, true));
+
+        // when
+        LikeResultDTO result = redisLikeCounter.increase(USER_ID, POST_ID);
+
+        // then
+        assertEquals(6L, result.likes());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 시 Redis 좋아요 수 반환")
+    void decrease_Success() {
+        // given
+        when(postLikeRedisRepository.unlike(POST_ID, USER_ID, null)).thenReturn(new LikeResultDTO(2L, true));
+
+        // when
+        LikeResultDTO result = redisLikeCounter.decrease(USER_ID, POST_ID);
+
+        // then
+        assertEquals(2L, result.likes());
+    }
+
+    @Test
+    @DisplayName("좋아요하지 않은 사용자의 취소는 변경 없음으로 반환")
+    void decrease_NotLiked() {
+        // given
+        when(postLikeRedisRepository.unlike(POST_ID, USER_ID, null)).thenReturn(new LikeResultDTO(2L, false));
+
+        // when
+        LikeResultDTO result = redisLikeCounter.decrease(USER_ID, POST_ID);
+
+        // then
+        assertEquals(2L, result.likes());
+        assertFalse(result.changed());
+    }
+
+    @Test
+    @DisplayName("샤드 모드 게시물은 샤드 하나에서 처리하고 샤드 합계 반환")
+    void increase_Sharded() {
+        // given
+        ShardLayout layout = new ShardLayout(4, 0, 0L);
+        when(likeShardManager.getLayout(POST_ID)).thenReturn(layout);
+        when(postLikeRedisRepository.likeSharded(POST_ID, USER_ID, layout)).thenReturn(1L);
+        when(likeShardManager.getSum(eq(POST_ID), any())).thenReturn(10L);
+
+        // when
+        LikeResultDTO result = redisLikeCounter.increase(USER_ID, POST_ID);
+
+        // then
+        assertEquals(10L, result.likes());
+        assertTrue(result.changed());
+        verify(likeShardManager).recordRequest(POST_ID);
+        verify(likeShardManager).applyDelta(POST_ID, 1L);
+        verify(postLikeRedisRepository, never()).like(any(), any(), any());
+    }
+}